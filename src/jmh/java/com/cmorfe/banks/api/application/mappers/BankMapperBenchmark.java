@@ -0,0 +1,63 @@
+package com.cmorfe.banks.api.application.mappers;
+
+import com.cmorfe.banks.api.domain.model.Bank;
+import com.cmorfe.banks.api.domain.model.Branch;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankMapperBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    private int branchCount;
+
+    private BankRequestDTO bankRequestDTO;
+
+    private Bank bank;
+
+    @Setup
+    public void setUp() {
+        bankRequestDTO = createBankRequestDTO("Bank", 0, branchCount);
+
+        bank = BankMapper.INSTANCE.toEntity(bankRequestDTO);
+        bank.setId(1L);
+
+        long branchId = 1;
+
+        for (Branch branch : bank.getBranches()) {
+            branch.setId(branchId++);
+            branch.setBank(bank);
+        }
+    }
+
+    @Benchmark
+    public Bank bankToEntity() {
+        return BankMapper.INSTANCE.toEntity(bankRequestDTO);
+    }
+
+    @Benchmark
+    public BankResponseDTO bankToResponseDTO() {
+        return BankMapper.INSTANCE.toResponseDTO(bank);
+    }
+
+    @Benchmark
+    public void branchesToEntity(Blackhole blackhole) {
+        bankRequestDTO.getBranches().forEach(branch -> blackhole.consume(BranchMapper.INSTANCE.toEntity(branch)));
+    }
+
+    @Benchmark
+    public void branchesToResponseDTO(Blackhole blackhole) {
+        bank.getBranches().forEach(branch -> blackhole.consume(BranchMapper.INSTANCE.toResponseDTO(branch)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.mappers.BankMapper;
+import com.cmorfe.banks.api.domain.model.Bank;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+
+/**
+ * Measures the branch diff applied by {@code BankService.update} on its own, without persistence.
+ * Add-heavy grows a tenth of the branches to the full count, remove-heavy shrinks the full count to a
+ * tenth and no-op resends the current branches unchanged. Each iteration builds {@value #BATCH_SIZE}
+ * fresh inputs up front and times a batch that merges each of them once, so the score is per batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = BankBranchMergerBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = BankBranchMergerBenchmark.BATCH_SIZE)
+@Fork(1)
+public class BankBranchMergerBenchmark {
+    static final int BATCH_SIZE = 50;
+
+    public enum Workload {
+        ADD_HEAVY,
+        REMOVE_HEAVY,
+        NO_OP
+    }
+
+    @Param({"100", "1000", "10000"})
+    private int branchCount;
+
+    @Param({"ADD_HEAVY", "REMOVE_HEAVY", "NO_OP"})
+    private Workload workload;
+
+    private int currentBranchCount;
+
+    private int updateBranchCount;
+
+    private final Bank[] banks = new Bank[BATCH_SIZE];
+
+    private final Bank[] updates = new Bank[BATCH_SIZE];
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpWorkload() {
+        currentBranchCount = workload == Workload.ADD_HEAVY ? branchCount / 10 : branchCount;
+
+        updateBranchCount = workload == Workload.REMOVE_HEAVY ? branchCount / 10 : branchCount;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpBanks() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Bank bank = BankMapper.INSTANCE.toEntity(createBankRequestDTO("Bank", 0, currentBranchCount));
+            bank.getBranches().forEach(branch -> branch.setBank(bank));
+
+            banks[i] = bank;
+
+            updates[i] = BankMapper.INSTANCE.toEntity(createBankRequestDTO("Bank", 0, updateBranchCount));
+        }
+
+        next = 0;
+    }
+
+    @Benchmark
+    public Bank merge() {
+        Bank bank = banks[next];
+
+        BankBranchMerger.merge(bank, updates[next++]);
+
+        return bank;
+    }
+}
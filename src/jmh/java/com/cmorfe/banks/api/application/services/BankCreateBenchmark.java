@@ -0,0 +1,104 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.BanksApiApplication;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+
+/**
+ * Creates a bank with many branches through {@code BankService.create} against the embedded database.
+ * A JDBC batch size of 1 reproduces one round trip per branch; 50 is the configured batch size.
+ * The number of prepared statements per create is reported as a secondary metric.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BankCreateBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"500"})
+    private int branchCount;
+
+    private ConfigurableApplicationContext context;
+
+    private BankService bankService;
+
+    private BankRepository bankRepository;
+
+    private BankNameIndex bankNameIndex;
+
+    private Statistics statistics;
+
+    private BankRequestDTO bankRequestDTO;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RoundTrips {
+        public long statements;
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BanksApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:create_benchmark",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        bankService = context.getBean(BankService.class);
+
+        bankRepository = context.getBean(BankRepository.class);
+
+        bankNameIndex = context.getBean(BankNameIndex.class);
+
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        bankRequestDTO = createBankRequestDTO("Large bank", 0, branchCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearStatistics() {
+        statistics.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteBanks() {
+        bankRepository.deleteAll();
+
+        bankNameIndex.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public BankResponseDTO create(RoundTrips roundTrips) {
+        BankResponseDTO bank = bankService.create(bankRequestDTO);
+
+        roundTrips.statements = statistics.getPrepareStatementCount();
+
+        return bank;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.BanksApiApplication;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+
+/**
+ * Replaces nine tenths of a large bank's branches through {@code BankService.update}. A threshold above
+ * the branch count keeps the entity merge with one statement per changed branch; a lower one takes the
+ * set-based path with a single DELETE and batched MERGE statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BankReplaceBenchmark {
+
+    @Param({"1000000", "1000"})
+    private int bulkThreshold;
+
+    @Param({"10000"})
+    private int branchCount;
+
+    private ConfigurableApplicationContext context;
+
+    private BankService bankService;
+
+    private BankRepository bankRepository;
+
+    private BankNameIndex bankNameIndex;
+
+    private BankRequestDTO replacement;
+
+    private Long bankId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BanksApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:replace_benchmark",
+                        "banks.branch-bulk.threshold=" + bulkThreshold,
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        bankService = context.getBean(BankService.class);
+
+        bankRepository = context.getBean(BankRepository.class);
+
+        bankNameIndex = context.getBean(BankNameIndex.class);
+
+        replacement = createBankRequestDTO("Large bank", branchCount * 9 / 10, branchCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void createBank() {
+        bankId = bankService.create(createBankRequestDTO("Large bank", 0, branchCount)).getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteBanks() {
+        bankRepository.deleteAll();
+
+        bankNameIndex.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public BankResponseDTO replace() {
+        return bankService.update(bankId, replacement);
+    }
+}
@@ -0,0 +1,96 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
+import com.cmorfe.banks.api.infrastructure.error.ErrorResponse;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the 404 path from the service throw to the error response, with logs formatted into a
+ * discarding stream. {@code before} rebuilds the previous behaviour: a stack-capturing
+ * {@link EntityNotFoundException} logged at ERROR with its stack. {@code after} throws the stackless
+ * {@link ResourceNotFoundException} through {@link GlobalExceptionHandler}, which logs client errors
+ * without stacks and rate limits them. The throw happens below {@code depth} frames, roughly the depth of
+ * a request inside the servlet, Spring MVC and proxy stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class NotFoundBenchmark {
+    private static final String BANK_ID_NOT_FOUND = "Bank not found with id: ";
+
+    private static final Logger LEGACY_LOGGER = LoggerFactory.getLogger(NotFoundBenchmark.class);
+
+    @Param({"128"})
+    private int depth;
+
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+
+        globalExceptionHandler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> before() {
+        try {
+            return throwAtDepth(depth, false);
+        } catch (EntityNotFoundException exception) {
+            LEGACY_LOGGER.error("{}: {}", GlobalExceptionHandler.NOT_FOUND, exception.getMessage(), exception);
+
+            return new ResponseEntity<>(new ErrorResponse(GlobalExceptionHandler.NOT_FOUND, exception.getMessage()),
+                    HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> after() {
+        try {
+            return throwAtDepth(depth, true);
+        } catch (ResourceNotFoundException exception) {
+            return globalExceptionHandler.handleResourceNotFoundException(exception);
+        }
+    }
+
+    private static ResponseEntity<ErrorResponse> throwAtDepth(int depth, boolean stackless) {
+        if (depth > 0) {
+            return throwAtDepth(depth - 1, stackless);
+        }
+
+        String message = BANK_ID_NOT_FOUND + System.nanoTime();
+
+        throw stackless ? new ResourceNotFoundException(message) : new EntityNotFoundException(message);
+    }
+}
@@ -0,0 +1,123 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
+
+import com.cmorfe.banks.api.BanksApiApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires a burst of concurrent {@code GET /api/banks/consume} requests at the application while the
+ * upstream it consumes answers slowly, with request handling on platform threads and on virtual threads.
+ * With platform threads the burst is bounded by the Tomcat worker pool; each request only waits on I/O.
+ * The outbound connection pool is sized to the burst so it does not become the bottleneck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConsumeLoadBenchmark {
+    private static final byte[] UPSTREAM_BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    @Param({"200"})
+    private int upstreamLatencyMillis;
+
+    private HttpServer upstream;
+
+    private ExecutorService upstreamExecutor;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private URI consumeUri;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), concurrentRequests);
+        upstream.createContext("/api/banks", exchange -> {
+            try {
+                Thread.sleep(upstreamLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, UPSTREAM_BODY.length);
+
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(UPSTREAM_BODY);
+            }
+        });
+        upstream.setExecutor(upstreamExecutor);
+        upstream.start();
+
+        context = new SpringApplicationBuilder(BanksApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:consume_load_benchmark",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "banks.api.url=http://localhost:" + upstream.getAddress().getPort(),
+                        "banks.http-client.max-total=" + concurrentRequests,
+                        "banks.http-client.max-per-route=" + concurrentRequests,
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        consumeUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/banks/consume");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+
+        upstream.stop(0);
+
+        upstreamExecutor.close();
+
+        client.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        HttpRequest request = HttpRequest.newBuilder(consumeUri).GET().build();
+
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrentRequests];
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        CompletableFuture.allOf(responses).join();
+
+        return responses.length;
+    }
+}
@@ -0,0 +1,93 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+
+/**
+ * Reads a single bank request of about {@code megabytes} through the hand-written deserializers and,
+ * for comparison, through Jackson's bean deserialization of the same DTOs. Unique values give every
+ * branch its own address and phone; repeated values draw them from a hundred of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BankRequestDeserializationBenchmark {
+
+    public enum Values {
+        UNIQUE,
+        REPEATED
+    }
+
+    private static final int SAMPLE_BRANCHES = 1000;
+    private static final int DISTINCT_VALUES = 100;
+
+    @Param({"1", "50"})
+    private int megabytes;
+
+    @Param({"UNIQUE", "REPEATED"})
+    private Values values;
+
+    private final ObjectMapper handWrittenMapper = new ObjectMapper();
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .addMixIn(BankRequestDTO.class, BeanBankRequestDTO.class)
+            .addMixIn(BranchRequestDTO.class, BeanBranchRequestDTO.class);
+
+    private byte[] payload;
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    abstract static class BeanBankRequestDTO {
+        @JsonDeserialize(using = BankTypeDeserializer.class)
+        private BankType type;
+    }
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    abstract static class BeanBranchRequestDTO {
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        int sampleSize = handWrittenMapper.writeValueAsBytes(createBank(SAMPLE_BRANCHES)).length;
+
+        int branchCount = (int) ((long) megabytes * 1024 * 1024 * SAMPLE_BRANCHES / sampleSize);
+
+        payload = handWrittenMapper.writeValueAsBytes(createBank(branchCount));
+    }
+
+    private BankRequestDTO createBank(int branchCount) {
+        List<BranchRequestDTO> branches = new ArrayList<>(branchCount);
+
+        for (int i = 0; i < branchCount; i++) {
+            int value = values == Values.REPEATED ? i % DISTINCT_VALUES : i;
+
+            branches.add(new BranchRequestDTO(branchCode(i), "Address " + value, "11-" + value));
+        }
+
+        return new BankRequestDTO("Large bank", BankType.PUBLIC, branches);
+    }
+
+    @Benchmark
+    public BankRequestDTO handWritten() throws IOException {
+        return handWrittenMapper.readValue(payload, BankRequestDTO.class);
+    }
+
+    @Benchmark
+    public BankRequestDTO bean() throws IOException {
+        return beanMapper.readValue(payload, BankRequestDTO.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+
+/**
+ * Writes a list of {@code bankCount} banks of {@code branchCount} branches each as UTF-8 into a
+ * discarding stream, through the hand-written serializers and through Jackson's bean serialization of
+ * the same DTOs. Writers are built once per trial, as the HTTP message converter keeps its mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankResponseSerializationBenchmark {
+    private static final TypeReference<List<BankResponseDTO>> BANK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000"})
+    private int bankCount;
+
+    @Param({"100"})
+    private int branchCount;
+
+    private final OutputStream output = OutputStream.nullOutputStream();
+
+    private ObjectWriter handWrittenWriter;
+
+    private ObjectWriter beanWriter;
+
+    private List<BankResponseDTO> banks;
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class BeanSerialized {
+    }
+
+    @Setup
+    public void setUp() {
+        handWrittenWriter = new ObjectMapper()
+                .writerFor(BANK_LIST)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        beanWriter = new ObjectMapper()
+                .addMixIn(BankResponseDTO.class, BeanSerialized.class)
+                .addMixIn(BranchResponseDTO.class, BeanSerialized.class)
+                .writerFor(BANK_LIST)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        banks = new ArrayList<>(bankCount);
+
+        long branchId = 1;
+
+        for (int i = 0; i < bankCount; i++) {
+            List<BranchResponseDTO> branches = new ArrayList<>(branchCount);
+
+            for (int j = 0; j < branchCount; j++, branchId++) {
+                branches.add(new BranchResponseDTO(branchId, branchCode((int) branchId), "Address " + branchId, "11-" + branchId));
+            }
+
+            banks.add(new BankResponseDTO((long) i + 1, "Bank " + i, BankType.values()[i % 2], branches));
+        }
+    }
+
+    @Benchmark
+    public void handWritten() throws IOException {
+        handWrittenWriter.writeValue(output, banks);
+    }
+
+    @Benchmark
+    public void bean() throws IOException {
+        beanWriter.writeValue(output, banks);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+
+/**
+ * Writes and reads a list of {@code bankCount} banks of {@code branchCount} branches each as JSON,
+ * Smile and CBOR through the same DTO (de)serializers. The {@code bytes} counter reports the payload
+ * size of each format next to its throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+    private static final TypeReference<List<BankResponseDTO>> BANK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private String format;
+
+    @Param({"1000"})
+    private int bankCount;
+
+    @Param({"100"})
+    private int branchCount;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private List<BankResponseDTO> banks;
+
+    private byte[] payload;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = format.equals("JSON")
+                ? new ObjectMapper()
+                : new ObjectMapper(BinaryFormat.valueOf(format).newFactory());
+
+        writer = objectMapper.writerFor(BANK_LIST);
+
+        reader = objectMapper.readerFor(BANK_LIST);
+
+        banks = new ArrayList<>(bankCount);
+
+        long branchId = 1;
+
+        for (int i = 0; i < bankCount; i++) {
+            List<BranchResponseDTO> branches = new ArrayList<>(branchCount);
+
+            for (int j = 0; j < branchCount; j++, branchId++) {
+                branches.add(new BranchResponseDTO(branchId, branchCode((int) branchId), "Address " + branchId, "11-" + branchId));
+            }
+
+            banks.add(new BankResponseDTO((long) i + 1, "Bank " + i, BankType.values()[i % 2], branches));
+        }
+
+        payload = writer.writeValueAsBytes(banks);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload size) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(banks);
+
+        size.bytes = bytes.length;
+
+        return bytes;
+    }
+
+    @Benchmark
+    public List<BankResponseDTO> deserialize(Payload size) throws IOException {
+        size.bytes = payload.length;
+
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,74 @@
+package com.cmorfe.banks.api.application.concurrency;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls: the first caller runs the supplier and every caller arriving while it is in
+ * flight waits for and shares its result or exception. Calls arriving afterwards start a new flight.
+ * <p>
+ * A waiter that is interrupted stops waiting without affecting the running call or the other waiters.
+ */
+public final class SingleFlight<T> {
+    private static final String INTERRUPTED = "Interrupted while waiting for an in-flight call";
+
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    private final Runnable onCoalesced;
+
+    public SingleFlight(Runnable onCoalesced) {
+        this.onCoalesced = onCoalesced;
+    }
+
+    public T execute(Supplier<T> supplier) {
+        CompletableFuture<T> call = new CompletableFuture<>();
+
+        CompletableFuture<T> current = inFlight.compareAndExchange(null, call);
+
+        if (current != null) {
+            onCoalesced.run();
+
+            return await(current);
+        }
+
+        try {
+            T result = supplier.get();
+
+            inFlight.set(null);
+
+            call.complete(result);
+
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.set(null);
+
+            call.completeExceptionally(e);
+
+            throw e;
+        }
+    }
+
+    private T await(CompletableFuture<T> call) {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            CancellationException cancellation = new CancellationException(INTERRUPTED);
+            cancellation.initCause(e);
+
+            throw cancellation;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw (Error) cause;
+        }
+    }
+}
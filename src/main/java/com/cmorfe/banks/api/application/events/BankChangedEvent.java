@@ -0,0 +1,7 @@
+package com.cmorfe.banks.api.application.events;
+
+/**
+ * Published by {@code BankService} whenever a bank or any of its branches is created, updated or deleted.
+ */
+public record BankChangedEvent(Long bankId) {
+}
@@ -1,6 +1,7 @@
 package com.cmorfe.banks.api.application.mappers;
 
 import com.cmorfe.banks.api.domain.model.Bank;
+import com.cmorfe.banks.api.domain.repository.BankSummary;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
 import org.mapstruct.Mapper;
@@ -21,4 +22,10 @@ public interface BankMapper {
     @Mapping(source = "type", target = "type")
     @Mapping(source = "branches", target = "branches")
     BankResponseDTO toResponseDTO(Bank bank);
+
+    @Mapping(source = "id", target = "id")
+    @Mapping(source = "name", target = "name")
+    @Mapping(source = "type", target = "type")
+    @Mapping(target = "branches", ignore = true)
+    BankResponseDTO toSummaryResponseDTO(BankSummary bank);
 }
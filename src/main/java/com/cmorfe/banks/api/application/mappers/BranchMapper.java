@@ -1,6 +1,8 @@
 package com.cmorfe.banks.api.application.mappers;
 
 import com.cmorfe.banks.api.domain.model.Branch;
+import com.cmorfe.banks.api.domain.repository.BranchLookup;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
 import org.mapstruct.Mapper;
@@ -21,4 +23,11 @@ public interface BranchMapper {
     @Mapping(source = "address", target = "address")
     @Mapping(source = "phone", target = "phone")
     BranchResponseDTO toResponseDTO(Branch branch);
+
+    @Mapping(source = "id", target = "id")
+    @Mapping(source = "code", target = "code")
+    @Mapping(source = "address", target = "address")
+    @Mapping(source = "phone", target = "phone")
+    @Mapping(source = "bankId", target = "bankId")
+    BranchLookupResponseDTO toLookupResponseDTO(BranchLookup branch);
 }
@@ -0,0 +1,63 @@
+package com.cmorfe.banks.api.application.pagination;
+
+import com.cmorfe.banks.api.domain.model.Bank;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort key of the last bank of a page, encoded together with the
+ * sort order it belongs to so that a cursor cannot be replayed against a different order.
+ */
+public record BankCursor(BankSort sort, String value) {
+    private static final String SEPARATOR = ":";
+    private static final String INVALID_CURSOR = "Invalid cursor: ";
+    private static final String FIRST_ID = "0";
+    private static final String FIRST_NAME = "";
+
+    public static BankCursor first(BankSort sort) {
+        return new BankCursor(sort, sort == BankSort.ID ? FIRST_ID : FIRST_NAME);
+    }
+
+    public static BankCursor of(BankSort sort, Bank bank) {
+        return new BankCursor(sort, sort == BankSort.ID ? String.valueOf(bank.getId()) : bank.getName());
+    }
+
+    public static BankCursor decode(String cursor, BankSort sort) {
+        String decoded;
+
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(INVALID_CURSOR + cursor);
+        }
+
+        String prefix = sort.name() + SEPARATOR;
+
+        if (!decoded.startsWith(prefix)) {
+            throw new IllegalArgumentException(INVALID_CURSOR + cursor);
+        }
+
+        String value = decoded.substring(prefix.length());
+
+        if (sort == BankSort.ID && !isNumeric(value)) {
+            throw new IllegalArgumentException(INVALID_CURSOR + cursor);
+        }
+
+        return new BankCursor(sort, value);
+    }
+
+    private static boolean isNumeric(String value) {
+        return !value.isEmpty() && value.length() < 19 && value.chars().allMatch(Character::isDigit);
+    }
+
+    public String encode() {
+        byte[] bytes = (sort.name() + SEPARATOR + value).getBytes(StandardCharsets.UTF_8);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public Long idValue() {
+        return Long.parseLong(value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.cmorfe.banks.api.application.pagination;
+
+import java.util.Arrays;
+
+/**
+ * Sort orders supported by keyset pagination. Each one is backed by a unique index
+ * (the primary key for {@code id}, the unique constraint for {@code name}).
+ */
+public enum BankSort {
+    ID("id"),
+    NAME("name");
+
+    private static final String INVALID_SORT = "Invalid sort '%s', expected one of [id, name]";
+
+    private final String parameter;
+
+    BankSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static BankSort fromParameter(String parameter) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameter.equalsIgnoreCase(parameter))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(INVALID_SORT, parameter)));
+    }
+}
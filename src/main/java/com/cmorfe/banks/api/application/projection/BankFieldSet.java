@@ -0,0 +1,96 @@
+package com.cmorfe.banks.api.application.projection;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bank fields requested through {@code ?fields=} and {@code ?include=branches}. Without either
+ * parameter the whole bank is returned; otherwise branches are only returned when included.
+ */
+public record BankFieldSet(Set<String> fields, boolean branches) {
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String TYPE = "type";
+    public static final String BRANCHES = "branches";
+    private static final Set<String> BANK_FIELDS = Set.of(ID, NAME, TYPE);
+    private static final String INVALID_FIELD = "Invalid field '%s', expected any of [id, name, type]";
+    private static final String INVALID_INCLUDE = "Invalid include '%s', expected [branches]";
+
+    public static final BankFieldSet ALL = new BankFieldSet(BANK_FIELDS, true);
+
+    public static BankFieldSet parse(String fields, String include) {
+        if (fields == null && include == null) {
+            return ALL;
+        }
+
+        return new BankFieldSet(parseFields(fields), parseInclude(include));
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return BANK_FIELDS;
+        }
+
+        Set<String> parsed = split(fields);
+
+        parsed.stream()
+                .filter(field -> !BANK_FIELDS.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new IllegalArgumentException(String.format(INVALID_FIELD, field));
+                });
+
+        return parsed;
+    }
+
+    private static boolean parseInclude(String include) {
+        if (include == null || include.isBlank()) {
+            return false;
+        }
+
+        Set<String> parsed = split(include);
+
+        parsed.stream()
+                .filter(relation -> !BRANCHES.equals(relation))
+                .findFirst()
+                .ifPresent(relation -> {
+                    throw new IllegalArgumentException(String.format(INVALID_INCLUDE, relation));
+                });
+
+        return true;
+    }
+
+    private static Set<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isAll() {
+        return branches && fields.size() == BANK_FIELDS.size();
+    }
+
+    /**
+     * Copies the bank keeping only the selected fields; the others are left null and not serialized.
+     */
+    public BankResponseDTO select(BankResponseDTO bank) {
+        return new BankResponseDTO(
+                fields.contains(ID) ? bank.getId() : null,
+                fields.contains(NAME) ? bank.getName() : null,
+                fields.contains(TYPE) ? bank.getType() : null,
+                branches ? bank.getBranches() : null
+        );
+    }
+
+    /**
+     * Stable name of the selection, used to tell representations apart in entity tags.
+     */
+    public String key() {
+        String key = fields.stream().sorted().collect(Collectors.joining("."));
+
+        return branches ? key + "+" + BRANCHES : key;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.model.Bank;
+import com.cmorfe.banks.api.domain.model.Branch;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the branches of an update request to a managed bank: existing branches are updated in place,
+ * new codes are added and codes missing from the request are removed (and deleted through orphan removal).
+ */
+final class BankBranchMerger {
+
+    private BankBranchMerger() {
+    }
+
+    static void merge(Bank bank, Bank updateData) {
+        Map<String, Branch> currentBranches = getCurrentBranches(bank);
+
+        updateOrAddBranches(bank, updateData, currentBranches);
+
+        removeOrphanBranches(bank, currentBranches);
+    }
+
+    private static Map<String, Branch> getCurrentBranches(Bank bank) {
+        return bank.getBranches().stream()
+                .collect(Collectors.toMap(Branch::getCode, branch -> branch));
+    }
+
+    private static void updateOrAddBranches(Bank bank, Bank updateData, Map<String, Branch> currentBranches) {
+        updateData.getBranches().forEach(updateBranchData -> {
+            Branch existingBranch = currentBranches.get(updateBranchData.getCode());
+
+            if (existingBranch != null) {
+                updateBranch(existingBranch, updateBranchData);
+            } else {
+                addNewBranch(bank, updateBranchData);
+            }
+
+            currentBranches.remove(updateBranchData.getCode());
+        });
+    }
+
+    private static void removeOrphanBranches(Bank bank, Map<String, Branch> currentBranchesMap) {
+        currentBranchesMap.values().forEach(bank.getBranches()::remove);
+    }
+
+    private static void updateBranch(Branch branch, Branch updateBranchData) {
+        branch.setAddress(updateBranchData.getAddress());
+        branch.setPhone(updateBranchData.getPhone());
+    }
+
+    private static void addNewBranch(Bank bank, Branch newBranch) {
+        newBranch.setBank(bank);
+        bank.getBranches().add(newBranch);
+    }
+}
@@ -0,0 +1,66 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cache-aside store for single banks. Writes evict only once they have committed, and a loaded bank is
+ * dropped again unless its version is still the committed one after the put. Together these keep a read
+ * that raced with a write from leaving the older bank in the cache: either the check sees the newer
+ * version, or the write commits after it and its eviction removes the entry.
+ */
+@Component
+public class BankCache {
+    private final Cache cache;
+
+    private final BankRepository bankRepository;
+
+    public BankCache(CacheManager cacheManager, BankRepository bankRepository) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(BankService.BANKS_CACHE));
+
+        this.bankRepository = bankRepository;
+    }
+
+    public VersionedBank get(Long id, Supplier<VersionedBank> loader) {
+        VersionedBank cached = cache.get(id, VersionedBank.class);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        VersionedBank loaded = loader.get();
+
+        cache.put(id, loaded);
+
+        boolean current = bankRepository.findUpdatedAtById(id)
+                .map(version -> version.equals(loaded.version()))
+                .orElse(false);
+
+        if (!current) {
+            cache.evict(id);
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Returns the version of the cached bank, if there is one, without loading anything.
+     */
+    public Optional<Instant> cachedVersion(Long id) {
+        return Optional.ofNullable(cache.get(id, VersionedBank.class)).map(VersionedBank::version);
+    }
+
+    @TransactionalEventListener
+    public void onBankChanged(BankChangedEvent event) {
+        cache.evict(event.bankId());
+    }
+}
@@ -0,0 +1,197 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory bank name index that rejects obvious duplicates before any insert or update is sent. Names
+ * are compared exactly, as the unique constraint compares them. {@link BankService} records its writes
+ * after they commit, so the index may briefly miss a name; the constraint still catches those. Writes carry the
+ * bank's {@code updatedAt}, and a delete leaves a tombstone for as long as another write to the same bank
+ * is in flight, so out-of-order commits cannot bring back a name that has been released. Those timestamps
+ * are taken before the row lock, so two renames can still commit in the opposite order; a hit is therefore
+ * confirmed against the database before it is rejected, and a stale name is dropped from the index.
+ */
+@Component
+public class BankNameIndex {
+    static final String BANK_NAME_TAKEN = "A bank with that name already exists: ";
+
+    private final BankRepository bankRepository;
+
+    private final Map<String, Long> banksByName = new ConcurrentHashMap<>();
+
+    private final Map<Long, Entry> entriesByBank = new ConcurrentHashMap<>();
+
+    // Guarded by writeLock
+    private final Map<Long, Integer> writesInFlight = new HashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private record Entry(String name, Instant version) {
+    }
+
+    public BankNameIndex(BankRepository bankRepository) {
+        this.bankRepository = bankRepository;
+    }
+
+    /**
+     * @param bankId the bank being renamed, or {@code null} for a new bank
+     * @throws ConflictException if another bank holds the name
+     */
+    public void checkAvailable(String name, Long bankId) {
+        Long owner = banksByName.get(name);
+
+        if (owner == null || owner.equals(bankId)) {
+            return;
+        }
+
+        Optional<Long> holder = bankRepository.findIdByName(name);
+
+        if (holder.isPresent() && !holder.get().equals(bankId)) {
+            throw new ConflictException(BANK_NAME_TAKEN + name);
+        }
+
+        releaseStaleName(name, owner);
+    }
+
+    private void releaseStaleName(String name, Long owner) {
+        writeLock.lock();
+
+        try {
+            if (!banksByName.remove(name, owner)) {
+                return;
+            }
+
+            Entry current = entriesByBank.get(owner);
+
+            if (current != null && name.equals(current.name())) {
+                entriesByBank.put(owner, new Entry(null, current.version()));
+
+                dropTombstone(owner);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void putAfterCommit(Long bankId, String name, Instant version) {
+        afterCommit(bankId, () -> apply(bankId, name, version == null ? Instant.MIN : version));
+    }
+
+    public void removeAfterCommit(Long bankId) {
+        afterCommit(bankId, () -> apply(bankId, null, Instant.MAX));
+    }
+
+    /**
+     * Rebuilds the index from the database. Also needed after banks are written without going through
+     * {@link BankService}, since the index would otherwise keep their old names.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        writeLock.lock();
+
+        try {
+            banksByName.clear();
+
+            entriesByBank.clear();
+
+            // Loaded entries get the oldest version, so writes committed while loading take precedence
+            bankRepository.findAllSummariesBy().forEach(bank -> apply(bank.getId(), bank.getName(), Instant.MIN));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void afterCommit(Long bankId, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        // Counted from the write until its transaction completes, so a tombstone outlives every older write
+        countWriteInFlight(bankId, 1);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                countWriteInFlight(bankId, -1);
+            }
+        });
+    }
+
+    private void countWriteInFlight(Long bankId, int delta) {
+        writeLock.lock();
+
+        try {
+            if (writesInFlight.merge(bankId, delta, Integer::sum) == 0) {
+                writesInFlight.remove(bankId);
+
+                dropTombstone(bankId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void dropTombstone(Long bankId) {
+        Entry current = entriesByBank.get(bankId);
+
+        if (current != null && current.name() == null && !writesInFlight.containsKey(bankId)) {
+            entriesByBank.remove(bankId);
+        }
+    }
+
+    private void apply(Long bankId, String name, Instant version) {
+        writeLock.lock();
+
+        try {
+            Entry current = entriesByBank.get(bankId);
+
+            if (current != null && current.version().isAfter(version)) {
+                return;
+            }
+
+            if (current != null && current.name() != null) {
+                banksByName.remove(current.name(), bankId);
+            }
+
+            entriesByBank.put(bankId, new Entry(name, version));
+
+            if (name != null) {
+                banksByName.put(name, bankId);
+            } else {
+                dropTombstone(bankId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return banksByName.size();
+    }
+
+    int entryCount() {
+        return entriesByBank.size();
+    }
+}
@@ -1,125 +1,343 @@
 package com.cmorfe.banks.api.application.services;
 
+import com.cmorfe.banks.api.application.concurrency.SingleFlight;
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
 import com.cmorfe.banks.api.application.mappers.BankMapper;
+import com.cmorfe.banks.api.application.mappers.BranchMapper;
+import com.cmorfe.banks.api.application.pagination.BankCursor;
+import com.cmorfe.banks.api.application.pagination.BankSort;
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
 import com.cmorfe.banks.api.domain.model.Bank;
 import com.cmorfe.banks.api.domain.model.Branch;
 import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankPageResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
-import jakarta.persistence.EntityNotFoundException;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.serialization.BankJsonFilter;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(BankService.SERVICE_METRIC)
 public class BankService {
+    public static final String BANKS_CACHE = "banks";
+    static final int MAX_PAGE_SIZE = 500;
+    static final String CONSUME_CALLS_METRIC = "banks.consume.calls";
+    static final String SERVICE_METRIC = "banks.service";
+    static final HttpEntity<Void> UPSTREAM_REQUEST = upstreamRequest();
+    private static final String API_BANKS_PATH = "/api/banks";
     private static final String BANK_ID_NOT_FOUND = "Bank not found with id: ";
+    private static final String INVALID_PAGE_SIZE = "Limit must be between 1 and " + MAX_PAGE_SIZE;
+    private static final String EMPTY_BRANCH_PATCH = "At least one branch must be added, updated or removed";
+    private static final String DUPLICATE_BRANCH_CODE = "Branch code appears more than once in the patch: ";
+    private static final String DUPLICATE_REQUEST_BRANCH_CODE = "Branch code appears more than once in the request: ";
+    private static final String BRANCH_CODES_NOT_FOUND = "Some branches to remove were not found in bank with id: ";
+    private static final String BRANCH_CODE_NOT_FOUND = "Branch %s not found in bank with id: %d";
+    private static final String UPSTREAM_ACCEPT =
+            "application/x-jackson-smile, application/cbor;q=0.9, application/json;q=0.8";
 
     private final BankRepository bankRepository;
 
+    private final BranchRepository branchRepository;
+
+    private final BankNameIndex bankNameIndex;
+
+    private final BankCache bankCache;
+
     private final RestTemplate restTemplate;
 
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter upstreamCalls;
+
+    private final SingleFlight<List<BankResponseDTO>> consumeFlight;
+
+    private final PhaseTimers createPhases;
+
+    private final PhaseTimers updatePhases;
+
     @Value("${banks.api.url}")
     private String banksApiUrl;
 
-    public BankService(BankRepository bankRepository, RestTemplate restTemplate) {
+    @Value("${banks.branch-bulk.threshold:1000}")
+    private int bulkBranchThreshold;
+
+    public BankService(BankRepository bankRepository, BranchRepository branchRepository, BankNameIndex bankNameIndex,
+                       BankCache bankCache, RestTemplate restTemplate, EntityManager entityManager,
+                       ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.bankRepository = bankRepository;
 
+        this.branchRepository = branchRepository;
+
+        this.bankNameIndex = bankNameIndex;
+
+        this.bankCache = bankCache;
+
         this.restTemplate = restTemplate;
+
+        this.entityManager = entityManager;
+
+        this.eventPublisher = eventPublisher;
+
+        this.upstreamCalls = consumeCallsCounter(meterRegistry, false);
+
+        Counter coalescedCalls = consumeCallsCounter(meterRegistry, true);
+
+        this.consumeFlight = new SingleFlight<>(coalescedCalls::increment);
+
+        this.createPhases = new PhaseTimers(meterRegistry, "create");
+
+        this.updatePhases = new PhaseTimers(meterRegistry, "update");
+    }
+
+    private static Counter consumeCallsCounter(MeterRegistry meterRegistry, boolean coalesced) {
+        return Counter.builder(CONSUME_CALLS_METRIC)
+                .description("Consume calls, either sent upstream or served by a concurrent in-flight call")
+                .tag("coalesced", Boolean.toString(coalesced))
+                .register(meterRegistry);
     }
 
     @Transactional(readOnly = true)
     public List<BankResponseDTO> getAll() {
-        List<Bank> banks = bankRepository.findAll();
+        List<Bank> banks = bankRepository.findAllWithBranches();
 
         return banks.stream()
                 .map(BankMapper.INSTANCE::toResponseDTO)
                 .toList();
     }
 
+    /**
+     * Reads only the bank columns; the branches table is not queried and branches are left null.
+     */
     @Transactional(readOnly = true)
-    public BankResponseDTO getById(Long id) {
-        Bank bank = bankRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(BANK_ID_NOT_FOUND + id));
+    public List<BankResponseDTO> getAllSummaries() {
+        return bankRepository.findAllSummariesBy().stream()
+                .map(BankMapper.INSTANCE::toSummaryResponseDTO)
+                .toList();
+    }
+
+    /**
+     * Maps banks one at a time from a JDBC cursor and hands each DTO to the consumer, detaching the
+     * bank afterwards so the persistence context never holds more than the current row.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<BankResponseDTO> consumer) {
+        try (Stream<Bank> banks = bankRepository.streamAllWithBranches()) {
+            banks.forEach(bank -> {
+                consumer.accept(BankMapper.INSTANCE.toResponseDTO(bank));
 
-        return BankMapper.INSTANCE.toResponseDTO(bank);
+                entityManager.detach(bank);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BankPageResponseDTO getPage(int limit, String after, BankSort sort) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE);
+        }
+
+        BankCursor cursor = after == null ? BankCursor.first(sort) : BankCursor.decode(after, sort);
+
+        List<Bank> banks = findPage(cursor, Limit.of(limit + 1));
+
+        boolean hasNext = banks.size() > limit;
+
+        List<Bank> page = hasNext ? banks.subList(0, limit) : banks;
+
+        String nextCursor = hasNext ? BankCursor.of(sort, page.getLast()).encode() : null;
+
+        return new BankPageResponseDTO(page.stream()
+                .map(BankMapper.INSTANCE::toResponseDTO)
+                .toList(), nextCursor);
+    }
+
+    private List<Bank> findPage(BankCursor cursor, Limit limit) {
+        return switch (cursor.sort()) {
+            case ID -> bankRepository.findByIdGreaterThanOrderByIdAsc(cursor.idValue(), limit);
+            case NAME -> bankRepository.findByNameGreaterThanOrderByNameAsc(cursor.value(), limit);
+        };
+    }
+
+    /**
+     * Returns the bank with the modification time read in the same statement, so that conditional
+     * requests answered from the cache never pair one version's tag with another version's body.
+     * Runs outside a transaction so that {@link BankCache} checks the version against the latest commit.
+     */
+    /**
+     * Returns the last modification time of a bank without loading it or its branches, so that
+     * conditional requests can be answered before doing any mapping or serialization. A cached bank
+     * answers from its own version; otherwise only the timestamp column is read.
+     */
+    public Instant getVersion(Long id) {
+        return bankCache.cachedVersion(id)
+                .orElseGet(() -> bankRepository.findUpdatedAtById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id)));
+    }
+
+    public VersionedBank getById(Long id) {
+        return bankCache.get(id, () -> {
+            Bank bank = bankRepository.findWithBranchesById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id));
+
+            return new VersionedBank(BankMapper.INSTANCE.toResponseDTO(bank), bank.getUpdatedAt());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public VersionedBank getSummaryById(Long id) {
+        return bankRepository.findSummaryById(id)
+                .map(bank -> new VersionedBank(BankMapper.INSTANCE.toSummaryResponseDTO(bank), bank.getUpdatedAt()))
+                .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id));
     }
 
     @Transactional
     public BankResponseDTO create(BankRequestDTO bankRequestDTO) {
-        Bank bank = BankMapper.INSTANCE.toEntity(bankRequestDTO);
+        bankNameIndex.checkAvailable(bankRequestDTO.getName(), null);
 
-        bank = createBank(bank);
+        Bank bank = createPhases.requestMapping(() -> BankMapper.INSTANCE.toEntity(bankRequestDTO));
 
-        return BankMapper.INSTANCE.toResponseDTO(bank);
+        Bank createdBank = createPhases.persistence(() -> createBank(bank));
+
+        bankNameIndex.putAfterCommit(createdBank.getId(), createdBank.getName(), createdBank.getUpdatedAt());
+
+        eventPublisher.publishEvent(new BankChangedEvent(createdBank.getId()));
+
+        return createPhases.responseMapping(() -> BankMapper.INSTANCE.toResponseDTO(createdBank));
     }
 
     private Bank createBank(Bank bank) {
         bank.getBranches().forEach(branch -> branch.setBank(bank));
 
-        return bankRepository.save(bank);
+        Bank createdBank = bankRepository.save(bank);
+
+        // Flushing here keeps the inserts inside the persistence phase rather than in the commit
+        bankRepository.flush();
+
+        return createdBank;
     }
 
     @Transactional
     public BankResponseDTO update(Long id, BankRequestDTO bankRequestDTO) {
-        Bank bank = BankMapper.INSTANCE.toEntity(bankRequestDTO);
+        checkNameAvailable(id, bankRequestDTO.getName());
+
+        Bank updateData = updatePhases.requestMapping(() -> BankMapper.INSTANCE.toEntity(bankRequestDTO));
+
+        Bank bank = updatePhases.persistence(() -> findAndUpdateBank(id, updateData));
+
+        bankNameIndex.putAfterCommit(id, bank.getName(), bank.getUpdatedAt());
+
+        eventPublisher.publishEvent(new BankChangedEvent(id));
+
+        return updatePhases.responseMapping(() -> BankMapper.INSTANCE.toResponseDTO(bank));
+    }
 
-        bank = findAndUpdateBank(id, bank);
+    private void checkNameAvailable(Long id, String name) {
+        try {
+            bankNameIndex.checkAvailable(name, id);
+        } catch (ConflictException exception) {
+            // A missing bank is reported as such, whichever name the request carries
+            if (!bankRepository.existsById(id)) {
+                throw new ResourceNotFoundException(BANK_ID_NOT_FOUND + id);
+            }
 
-        return BankMapper.INSTANCE.toResponseDTO(bank);
+            throw exception;
+        }
     }
 
     private Bank findAndUpdateBank(Long id, Bank updateData) {
-        return bankRepository.findById(id)
+        // Checked before choosing a path, so the same request fails the same way whatever its size
+        rejectDuplicateCodes(updateData.getBranches());
+
+        // The request alone can decide the path, in which case the current branches need not be counted
+        if (updateData.getBranches().size() >= bulkBranchThreshold
+                || branchRepository.countByBankId(id) >= bulkBranchThreshold) {
+            return bulkUpdateBank(id, updateData);
+        }
+
+        return bankRepository.findWithBranchesById(id)
                 .map(bank -> updateBank(bank, updateData))
-                .orElseThrow(() -> new EntityNotFoundException(BANK_ID_NOT_FOUND + id));
+                .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id));
+    }
+
+    private static void rejectDuplicateCodes(List<Branch> branches) {
+        Set<String> codes = new HashSet<>();
+
+        branches.stream()
+                .map(Branch::getCode)
+                .filter(code -> !codes.add(code))
+                .findFirst()
+                .ifPresent(code -> {
+                    throw new ConflictException(DUPLICATE_REQUEST_BRANCH_CODE + code);
+                });
     }
 
     private Bank updateBank(Bank bank, Bank updateData) {
-        updateBankBranches(bank, updateData);
+        BankBranchMerger.merge(bank, updateData);
 
         updateBankData(bank, updateData);
 
-        return bankRepository.save(bank);
-    }
+        // Branch-only changes leave the bank row clean, but its timestamp is the version of the whole aggregate
+        bank.setUpdatedAt(Instant.now());
 
-    private void updateBankBranches(Bank bank, Bank updateData) {
-        Map<String, Branch> currentBranches = getCurrentBranches(bank);
+        Bank updatedBank = bankRepository.save(bank);
 
-        updateOrAddBranches(bank, updateData, currentBranches);
+        bankRepository.flush();
 
-        removeOrphanBranches(bank, currentBranches);
+        return updatedBank;
     }
 
-    private Map<String, Branch> getCurrentBranches(Bank bank) {
-        return bank.getBranches().stream()
-                .collect(Collectors.toMap(Branch::getCode, branch -> branch));
-    }
+    /**
+     * Replaces large branch sets with one DELETE and batched upserts instead of a statement per
+     * changed entity, then reloads the bank once to build the response.
+     */
+    private Bank bulkUpdateBank(Long id, Bank updateData) {
+        Bank bank = bankRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id));
+
+        updateBankData(bank, updateData);
 
-    private void updateOrAddBranches(Bank bank, Bank updateData, Map<String, Branch> currentBranches) {
-        updateData.getBranches().forEach(updateBranchData -> {
-            Branch existingBranch = currentBranches.get(updateBranchData.getCode());
+        Instant now = Instant.now();
 
-            if (existingBranch != null) {
-                updateBranch(existingBranch, updateBranchData);
-            } else {
-                addNewBranch(bank, updateBranchData);
-            }
+        bank.setUpdatedAt(now);
 
-            currentBranches.remove(updateBranchData.getCode());
-        });
-    }
+        bankRepository.saveAndFlush(bank);
 
-    private void removeOrphanBranches(Bank bank, Map<String, Branch> currentBranchesMap) {
-        currentBranchesMap.values().forEach(bank.getBranches()::remove);
+        branchRepository.replaceBranches(id, updateData.getBranches(), now);
+
+        entityManager.detach(bank);
+
+        return bankRepository.findWithBranchesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(BANK_ID_NOT_FOUND + id));
     }
 
     private void updateBankData(Bank bank, Bank updateData) {
@@ -127,35 +345,151 @@ public class BankService {
         bank.setType(updateData.getType());
     }
 
-    private void updateBranch(Branch branch, Branch updateBranchData) {
-        branch.setAddress(updateBranchData.getAddress());
-        branch.setPhone(updateBranchData.getPhone());
+    /**
+     * Applies branch changes with one statement per removed batch, updated branch and insert batch,
+     * without loading the bank or its branches. Any unknown code rolls the whole patch back.
+     */
+    @Transactional
+    public void patchBranches(Long id, BranchPatchRequestDTO patch) {
+        List<BranchRequestDTO> added = nullToEmpty(patch.getAdd());
+        List<BranchRequestDTO> updated = nullToEmpty(patch.getUpdate());
+        List<String> removed = nullToEmpty(patch.getRemove());
+
+        validateBranchPatch(added, updated, removed);
+
+        Instant now = Instant.now();
+
+        if (bankRepository.updateUpdatedAtById(id, now) == 0) {
+            throw new ResourceNotFoundException(BANK_ID_NOT_FOUND + id);
+        }
+
+        removeBranches(id, removed);
+
+        updated.forEach(branch -> updateBranch(id, branch, now));
+
+        addBranches(id, added);
+
+        eventPublisher.publishEvent(new BankChangedEvent(id));
     }
 
-    private void addNewBranch(Bank bank, Branch newBranch) {
-        newBranch.setBank(bank);
-        bank.getBranches().add(newBranch);
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private static void validateBranchPatch(List<BranchRequestDTO> added, List<BranchRequestDTO> updated,
+                                            List<String> removed) {
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_BRANCH_PATCH);
+        }
+
+        Set<String> codes = new HashSet<>();
+
+        Stream.of(added.stream().map(BranchRequestDTO::getCode), updated.stream().map(BranchRequestDTO::getCode),
+                        removed.stream())
+                .flatMap(stream -> stream)
+                .filter(code -> !codes.add(code))
+                .findFirst()
+                .ifPresent(code -> {
+                    throw new IllegalArgumentException(DUPLICATE_BRANCH_CODE + code);
+                });
+    }
+
+    private void removeBranches(Long id, List<String> codes) {
+        if (!codes.isEmpty() && branchRepository.deleteByBankIdAndCodeIn(id, codes) != codes.size()) {
+            throw new ResourceNotFoundException(BRANCH_CODES_NOT_FOUND + id);
+        }
+    }
+
+    private void updateBranch(Long id, BranchRequestDTO branch, Instant now) {
+        int updatedRows = branchRepository.updateByBankIdAndCode(id, branch.getCode(), branch.getAddress(),
+                branch.getPhone(), now);
+
+        if (updatedRows == 0) {
+            throw new ResourceNotFoundException(String.format(BRANCH_CODE_NOT_FOUND, branch.getCode(), id));
+        }
+    }
+
+    private void addBranches(Long id, List<BranchRequestDTO> branches) {
+        if (branches.isEmpty()) {
+            return;
+        }
+
+        Bank bank = bankRepository.getReferenceById(id);
+
+        List<Branch> newBranches = branches.stream()
+                .map(BranchMapper.INSTANCE::toEntity)
+                .toList();
+
+        newBranches.forEach(branch -> branch.setBank(bank));
+
+        branchRepository.saveAll(newBranches);
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!bankRepository.existsById(id)) {
-            throw new EntityNotFoundException(BANK_ID_NOT_FOUND + id);
+        if (bankRepository.deleteBankById(id) == 0) {
+            throw new ResourceNotFoundException(BANK_ID_NOT_FOUND + id);
         }
 
-        bankRepository.deleteById(id);
+        bankNameIndex.removeAfterCommit(id);
+
+        eventPublisher.publishEvent(new BankChangedEvent(id));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Not transactional: a transaction would hold a pooled database connection for the whole upstream
+     * call and cap concurrent consumers at the pool size, whatever threads serve the requests.
+     * Concurrent callers share a single upstream request.
+     */
     public List<BankResponseDTO> consumeGetAll() {
+        return consumeFlight.execute(this::fetchUpstreamBanks);
+    }
+
+    /**
+     * Asks upstream for Smile, then CBOR, then JSON; the rest template reads whichever format comes back.
+     */
+    private static HttpEntity<Void> upstreamRequest() {
+        HttpHeaders headers = new HttpHeaders();
+
+        headers.set(HttpHeaders.ACCEPT, UPSTREAM_ACCEPT);
+
+        return new HttpEntity<>(headers);
+    }
+
+    private List<BankResponseDTO> fetchUpstreamBanks() {
+        upstreamCalls.increment();
+
         ResponseEntity<List<BankResponseDTO>> response = restTemplate.exchange(
-                banksApiUrl + "/api/banks",
+                banksApiUrl + API_BANKS_PATH,
                 HttpMethod.GET,
-                null,
+                UPSTREAM_REQUEST,
                 new ParameterizedTypeReference<>() {
                 }
         );
 
         return response.getBody();
     }
+
+    /**
+     * Writes the upstream bank list to the output as it arrives, without building DTOs. A pass-through
+     * filter copies the raw bytes; any other filter rewrites the JSON token by token.
+     */
+    public void streamUpstreamBanks(BankJsonFilter filter, OutputStream outputStream) {
+        restTemplate.execute(
+                banksApiUrl + API_BANKS_PATH,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    try (InputStream body = response.getBody()) {
+                        if (filter.isPassThrough()) {
+                            body.transferTo(outputStream);
+                        } else {
+                            filter.copy(body, outputStream);
+                        }
+                    }
+
+                    return null;
+                }
+        );
+    }
 }
@@ -0,0 +1,16 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized form of the full bank list, as UTF-8 JSON and gzip-compressed JSON, tagged with the
+ * version of the data it was generated from. Binary encodings are added the first time each one is asked for.
+ */
+public record BankSnapshot(long version, byte[] json, byte[] gzip, Map<BinaryFormat, byte[]> binary) {
+    public BankSnapshot(long version, byte[] json, byte[] gzip) {
+        this(version, json, gzip, new ConcurrentHashMap<>());
+    }
+}
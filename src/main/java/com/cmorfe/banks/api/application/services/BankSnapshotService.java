@@ -0,0 +1,116 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the full bank list pre-serialized so that the hot read path does no ORM or Jackson work.
+ * Every committed write bumps the version; the snapshot is regenerated lazily by the first reader
+ * that finds it behind, while concurrent readers wait for that single regeneration.
+ */
+@Service
+public class BankSnapshotService {
+    private final BankService bankService;
+
+    private final ObjectMapper objectMapper;
+
+    private final String instanceId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final AtomicLong version = new AtomicLong(1);
+
+    private final ReentrantLock regenerationLock = new ReentrantLock();
+
+    private volatile BankSnapshot snapshot;
+
+    public BankSnapshotService(BankService bankService, ObjectMapper objectMapper) {
+        this.bankService = bankService;
+
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Identifies this process, so that versions from a restarted instance are never mistaken for the current ones.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public BankSnapshot getSnapshot() {
+        BankSnapshot current = snapshot;
+
+        if (isCurrent(current)) {
+            return current;
+        }
+
+        regenerationLock.lock();
+
+        try {
+            current = snapshot;
+
+            if (isCurrent(current)) {
+                return current;
+            }
+
+            current = generate(version.get());
+
+            snapshot = current;
+
+            return current;
+        } finally {
+            regenerationLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the bank list in a binary format, transcoded from the current JSON snapshot once per version
+     * and format.
+     */
+    public byte[] getBinarySnapshot(BinaryFormat format) {
+        BankSnapshot current = getSnapshot();
+
+        return current.binary().computeIfAbsent(format, key -> key.transcode(current.json()));
+    }
+
+    @TransactionalEventListener
+    public void onBankChanged(BankChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private boolean isCurrent(BankSnapshot current) {
+        return current != null && current.version() == version.get();
+    }
+
+    private BankSnapshot generate(long snapshotVersion) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(bankService.getAll());
+
+            return new BankSnapshot(snapshotVersion, json, gzip(json));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4 + 64);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        }
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.application.mappers.BranchMapper;
+import com.cmorfe.banks.api.domain.repository.BranchLookup;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory code to branch index, loaded at startup and refreshed per bank after every committed write.
+ * Reads never lock; refreshes are serialized and re-read the bank's branches from the database, so
+ * branches moving between banks converge whatever order the refreshes run in.
+ */
+@Component
+@ConditionalOnProperty(name = "banks.branch-index.enabled", havingValue = "true")
+public class BranchCodeIndex {
+    private final BranchRepository branchRepository;
+
+    private final Map<String, BranchLookupResponseDTO> branchesByCode = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<String>> codesByBank = new ConcurrentHashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public BranchCodeIndex(BranchRepository branchRepository) {
+        this.branchRepository = branchRepository;
+    }
+
+    public Optional<BranchLookupResponseDTO> get(String code) {
+        return Optional.ofNullable(branchesByCode.get(code));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        refreshLock.lock();
+
+        try (Stream<BranchLookup> branches = branchRepository.streamAllLookups()) {
+            branchesByCode.clear();
+
+            codesByBank.clear();
+
+            branches.map(BranchMapper.INSTANCE::toLookupResponseDTO).forEach(this::put);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onBankChanged(BankChangedEvent event) {
+        refreshLock.lock();
+
+        try {
+            List<BranchLookupResponseDTO> branches = branchRepository.findLookupsByBankId(event.bankId()).stream()
+                    .map(BranchMapper.INSTANCE::toLookupResponseDTO)
+                    .toList();
+
+            Set<String> previousCodes = codesByBank.remove(event.bankId());
+
+            branches.forEach(this::put);
+
+            if (previousCodes != null) {
+                Set<String> currentCodes = codesByBank.getOrDefault(event.bankId(), Set.of());
+
+                previousCodes.stream()
+                        .filter(code -> !currentCodes.contains(code))
+                        .forEach(code -> branchesByCode.computeIfPresent(code,
+                                (key, branch) -> event.bankId().equals(branch.getBankId()) ? null : branch));
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void put(BranchLookupResponseDTO branch) {
+        BranchLookupResponseDTO previous = branchesByCode.put(branch.getCode(), branch);
+
+        if (previous != null && !previous.getBankId().equals(branch.getBankId())) {
+            Set<String> previousBankCodes = codesByBank.get(previous.getBankId());
+
+            if (previousBankCodes != null) {
+                previousBankCodes.remove(branch.getCode());
+            }
+        }
+
+        codesByBank.computeIfAbsent(branch.getBankId(), bankId -> ConcurrentHashMap.newKeySet())
+                .add(branch.getCode());
+    }
+
+    int size() {
+        return branchesByCode.size();
+    }
+}
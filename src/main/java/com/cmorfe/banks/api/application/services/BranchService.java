@@ -0,0 +1,74 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.mappers.BranchMapper;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BranchService {
+    static final int MAX_CODES = 100;
+    private static final String BRANCH_CODE_NOT_FOUND = "Branch not found with code: ";
+    private static final String INVALID_CODES = "Between 1 and " + MAX_CODES + " codes must be given";
+
+    private final BranchRepository branchRepository;
+
+    private final Optional<BranchCodeIndex> branchCodeIndex;
+
+    public BranchService(BranchRepository branchRepository, Optional<BranchCodeIndex> branchCodeIndex) {
+        this.branchRepository = branchRepository;
+
+        this.branchCodeIndex = branchCodeIndex;
+    }
+
+    /**
+     * Answers from the index without a transaction; only the repository fallback runs in one, the
+     * read-only transaction Spring Data opens for its query methods.
+     */
+    public BranchLookupResponseDTO getByCode(String code) {
+        return branchCodeIndex.flatMap(index -> index.get(code))
+                .or(() -> branchRepository.findLookupByCode(code).map(BranchMapper.INSTANCE::toLookupResponseDTO))
+                .orElseThrow(() -> new ResourceNotFoundException(BRANCH_CODE_NOT_FOUND + code));
+    }
+
+    /**
+     * Returns the branches found, in the order their codes were given. Unknown codes are skipped.
+     * Codes missing from the index are looked up in the database, as the index trails commits slightly.
+     */
+    public List<BranchLookupResponseDTO> getByCodes(List<String> codes) {
+        Set<String> uniqueCodes = new LinkedHashSet<>(codes);
+
+        if (uniqueCodes.isEmpty() || uniqueCodes.size() > MAX_CODES) {
+            throw new IllegalArgumentException(INVALID_CODES);
+        }
+
+        Map<String, BranchLookupResponseDTO> branches = new HashMap<>();
+
+        branchCodeIndex.ifPresent(index -> uniqueCodes.forEach(code -> index.get(code)
+                .ifPresent(branch -> branches.put(code, branch))));
+
+        Set<String> missingCodes = uniqueCodes.stream()
+                .filter(code -> !branches.containsKey(code))
+                .collect(Collectors.toSet());
+
+        if (!missingCodes.isEmpty()) {
+            branches.putAll(findInRepository(missingCodes));
+        }
+
+        return uniqueCodes.stream()
+                .map(branches::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<String, BranchLookupResponseDTO> findInRepository(Set<String> codes) {
+        return branchRepository.findLookupsByCodeIn(codes).stream()
+                .map(BranchMapper.INSTANCE::toLookupResponseDTO)
+                .collect(Collectors.toMap(BranchLookupResponseDTO::getCode, Function.identity()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.cmorfe.banks.api.application.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of a write operation separately, so the slowest phase of a request can be told apart
+ * from its total latency. Percentiles and SLO buckets come from the {@code banks.service} distribution
+ * properties.
+ */
+final class PhaseTimers {
+    static final String PHASE_METRIC = "banks.service.phase";
+
+    private final Timer requestMapping;
+
+    private final Timer persistence;
+
+    private final Timer responseMapping;
+
+    PhaseTimers(MeterRegistry meterRegistry, String operation) {
+        this.requestMapping = timer(meterRegistry, operation, "request-mapping");
+
+        this.persistence = timer(meterRegistry, operation, "persistence");
+
+        this.responseMapping = timer(meterRegistry, operation, "response-mapping");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, String phase) {
+        return Timer.builder(PHASE_METRIC)
+                .description("Time spent in one phase of a bank write")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    <T> T requestMapping(Supplier<T> mapping) {
+        return requestMapping.record(mapping);
+    }
+
+    <T> T persistence(Supplier<T> persistence) {
+        return this.persistence.record(persistence);
+    }
+
+    <T> T responseMapping(Supplier<T> mapping) {
+        return responseMapping.record(mapping);
+    }
+}
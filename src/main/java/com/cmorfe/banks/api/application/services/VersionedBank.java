@@ -0,0 +1,12 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+
+import java.time.Instant;
+
+/**
+ * A bank read together with its last modification time, so an entity tag derived from the version always
+ * describes this body and not a newer or older one.
+ */
+public record VersionedBank(BankResponseDTO bank, Instant version) {
+}
@@ -0,0 +1,12 @@
+package com.cmorfe.banks.api.domain.exception;
+
+/**
+ * A write that clashes with existing data, such as a name or code already in use. Like
+ * {@link ResourceNotFoundException} it is an expected outcome and carries no stack trace.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cmorfe.banks.api.domain.exception;
+
+/**
+ * An expected miss on a client-supplied id or code. It carries no stack trace: the message says
+ * everything, and capturing a stack for every miss is costly when clients scan ids.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
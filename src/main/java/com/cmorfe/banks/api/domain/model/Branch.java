@@ -3,6 +3,8 @@ package com.cmorfe.banks.api.domain.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
@@ -12,10 +14,11 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "branches")
+@Table(name = "branches", indexes = @Index(name = "idx_branches_bank_id", columnList = "bank_id"))
 public class Branch {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "branches_seq")
+    @SequenceGenerator(name = "branches_seq", sequenceName = "branches_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 4)
@@ -36,5 +39,6 @@ public class Branch {
 
     @ManyToOne
     @JoinColumn(name = "bank_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Bank bank;
 }
@@ -1,7 +1,59 @@
 package com.cmorfe.banks.api.domain.repository;
 
 import com.cmorfe.banks.api.domain.model.Bank;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BankRepository extends JpaRepository<Bank, Long> {
+    @EntityGraph(attributePaths = "branches")
+    @Query("select b from Bank b")
+    List<Bank> findAllWithBranches();
+
+    @EntityGraph(attributePaths = "branches")
+    Optional<Bank> findWithBranchesById(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Bank b left join fetch b.branches order by b.id")
+    Stream<Bank> streamAllWithBranches();
+
+    @Query("select b.updatedAt from Bank b where b.id = :id")
+    Optional<Instant> findUpdatedAtById(Long id);
+
+    @Query("select b.id from Bank b where b.name = :name")
+    Optional<Long> findIdByName(String name);
+
+    @Modifying
+    @Query("update Bank b set b.updatedAt = :updatedAt where b.id = :id")
+    int updateUpdatedAtById(Long id, Instant updatedAt);
+
+    /**
+     * Deletes the bank row alone; its branches go through the foreign key's ON DELETE CASCADE.
+     *
+     * @return the number of deleted banks, 0 when the id does not exist
+     */
+    @Modifying
+    @Query("delete from Bank b where b.id = :id")
+    int deleteBankById(Long id);
+
+    List<BankSummary> findAllSummariesBy();
+
+    Optional<BankSummary> findSummaryById(Long id);
+
+    List<Bank> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Bank> findByNameGreaterThanOrderByNameAsc(String name, Limit limit);
 }
@@ -0,0 +1,18 @@
+package com.cmorfe.banks.api.domain.repository;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+
+import java.time.Instant;
+
+/**
+ * Bank columns without the branches association.
+ */
+public interface BankSummary {
+    Long getId();
+
+    String getName();
+
+    BankType getType();
+
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,21 @@
+package com.cmorfe.banks.api.domain.repository;
+
+import com.cmorfe.banks.api.domain.model.Branch;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Set-based branch writes that bypass the persistence context. Callers must not hold managed
+ * branches of the same bank, since these statements leave them stale.
+ */
+public interface BranchBulkOperations {
+
+    /**
+     * Makes the given branches the only branches of the bank: rows whose code is not listed are deleted
+     * in one statement and the rest are upserted by code in JDBC batches.
+     *
+     * @throws com.cmorfe.banks.api.domain.exception.ConflictException if a code belongs to another bank
+     */
+    void replaceBranches(Long bankId, List<Branch> branches, Instant updatedAt);
+}
@@ -0,0 +1,105 @@
+package com.cmorfe.banks.api.domain.repository;
+
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.model.Branch;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+class BranchBulkOperationsImpl implements BranchBulkOperations {
+    private static final String BRANCH_CODE_TAKEN = "Branch code already belongs to another bank: ";
+
+    private static final String DELETE_UNLISTED = "DELETE FROM branches WHERE bank_id = ? AND NOT (code = ANY (?))";
+
+    private static final String SELECT_CODES = "SELECT code FROM branches WHERE bank_id = ?";
+
+    // New rows take their id from the same pooled generator as Branch entities, so a bulk insert uses one
+    // sequence call per allocation block rather than a whole block per row
+    private static final String UPSERT = """
+            MERGE INTO branches t
+            USING (VALUES (CAST(? AS VARCHAR(4)), CAST(? AS VARCHAR(200)), CAST(? AS VARCHAR(15)))) s (code, address, phone)
+            ON t.code = s.code
+            WHEN MATCHED AND t.bank_id = ? THEN
+                UPDATE SET address = s.address, phone = s.phone, updated_at = ?
+            WHEN NOT MATCHED THEN
+                INSERT (id, code, address, phone, bank_id, created_at, updated_at)
+                VALUES (?, s.code, s.address, s.phone, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    BranchBulkOperationsImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        this.entityManager = entityManager;
+
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void replaceBranches(Long bankId, List<Branch> branches, Instant updatedAt) {
+        String[] codes = branches.stream().map(Branch::getCode).toArray(String[]::new);
+
+        jdbcTemplate.update(DELETE_UNLISTED, ps -> {
+            ps.setLong(1, bankId);
+            ps.setArray(2, ps.getConnection().createArrayOf("VARCHAR", codes));
+        });
+
+        Set<String> keptCodes = new HashSet<>(jdbcTemplate.queryForList(SELECT_CODES, String.class, bankId));
+
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+
+        IdentifierGenerator idGenerator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Branch.class)
+                .getGenerator();
+
+        Timestamp timestamp = Timestamp.from(updatedAt);
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT, branches, batchSize, (ps, branch) -> {
+            // Kept codes match and are updated, so only the others need an id
+            Object id = keptCodes.contains(branch.getCode()) ? null : idGenerator.generate(session, branch);
+
+            ps.setString(1, branch.getCode());
+            ps.setString(2, branch.getAddress());
+            ps.setString(3, branch.getPhone());
+            ps.setLong(4, bankId);
+            ps.setTimestamp(5, timestamp);
+            ps.setObject(6, id, Types.BIGINT);
+            ps.setLong(7, bankId);
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+        });
+
+        verifyAllUpserted(branches, counts);
+    }
+
+    private static void verifyAllUpserted(List<Branch> branches, int[][] counts) {
+        Iterator<Branch> branch = branches.iterator();
+
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                String code = branch.next().getCode();
+
+                // A code owned by another bank matches without updating anything
+                if (count == 0) {
+                    throw new ConflictException(BRANCH_CODE_TAKEN + code);
+                }
+            }
+        }
+    }
+}
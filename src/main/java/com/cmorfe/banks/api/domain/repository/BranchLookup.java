@@ -0,0 +1,16 @@
+package com.cmorfe.banks.api.domain.repository;
+
+/**
+ * Branch columns plus the owning bank id, read without loading the bank.
+ */
+public interface BranchLookup {
+    Long getId();
+
+    String getCode();
+
+    String getAddress();
+
+    String getPhone();
+
+    Long getBankId();
+}
@@ -2,6 +2,39 @@ package com.cmorfe.banks.api.domain.repository;
 
 import com.cmorfe.banks.api.domain.model.Branch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface BranchRepository extends JpaRepository<Branch, Long> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface BranchRepository extends JpaRepository<Branch, Long>, BranchBulkOperations {
+    String SELECT_LOOKUP = "select b.id as id, b.code as code, b.address as address, b.phone as phone, "
+            + "b.bank.id as bankId from Branch b";
+
+    @Query(SELECT_LOOKUP + " where b.code = :code")
+    Optional<BranchLookup> findLookupByCode(String code);
+
+    @Query(SELECT_LOOKUP + " where b.code in :codes")
+    List<BranchLookup> findLookupsByCodeIn(Collection<String> codes);
+
+    @Query(SELECT_LOOKUP + " where b.bank.id = :bankId")
+    List<BranchLookup> findLookupsByBankId(Long bankId);
+
+    @Query(SELECT_LOOKUP)
+    Stream<BranchLookup> streamAllLookups();
+
+    long countByBankId(Long bankId);
+
+    @Modifying
+    @Query("update Branch b set b.address = :address, b.phone = :phone, b.updatedAt = :updatedAt "
+            + "where b.bank.id = :bankId and b.code = :code")
+    int updateByBankIdAndCode(Long bankId, String code, String address, String phone, Instant updatedAt);
+
+    @Modifying
+    @Query("delete from Branch b where b.bank.id = :bankId and b.code in :codes")
+    int deleteByBankIdAndCodeIn(Long bankId, Collection<String> codes);
 }
@@ -1,5 +1,7 @@
 package com.cmorfe.banks.api.infrastructure.configuration;
 
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
 import com.cmorfe.banks.api.infrastructure.error.ErrorResponse;
 import com.cmorfe.banks.api.infrastructure.error.ValidationErrorResponse;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -7,6 +9,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import jakarta.persistence.EntityNotFoundException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -16,9 +19,14 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +50,11 @@ public class GlobalExceptionHandler {
     static final String INVALID_FORMAT_TYPE_BRANCH = "Invalid format for type Branch";
     static final String INVALID_REQUEST_BODY = "Invalid request body";
     static final String INVALID_VALUE = "Invalid value";
+    static final String UPSTREAM_UNAVAILABLE = "Upstream unavailable";
+    static final String UPSTREAM_TIMEOUT = "Upstream timed out";
+    static final String UPSTREAM_ERROR = "Upstream error";
+    static final String CONFLICT = "Conflict";
+    static final int CLIENT_ERROR_LOGS_PER_SECOND = 10;
     private static final String VALIDATION_ERROR = "Validation error";
     private static final String INVALID_VALUE_FOR_FIELD = "Invalid value for field %s: %s";
     private static final String FIELD_MUST_BE_ONE_OF = "Field %s must be one of [%s]";
@@ -49,8 +62,28 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    private static void logError(String error, Throwable exception) {
-        logger.error("{}: {}", error, exception.getMessage(), exception);
+    private final LogRateLimiter clientErrorLogLimiter = new LogRateLimiter(CLIENT_ERROR_LOGS_PER_SECOND);
+
+    /**
+     * Server errors are logged at ERROR with their stack. Client errors are expected, so they are logged
+     * at WARN without a stack and rate limited, since even their messages can be costly to build.
+     */
+    private void logError(String error, Throwable exception, HttpStatus status) {
+        if (status.is5xxServerError()) {
+            logger.error("{}: {}", error, exception.getMessage(), exception);
+
+            return;
+        }
+
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+
+        long suppressed = clientErrorLogLimiter.tryAcquire();
+
+        if (suppressed != LogRateLimiter.SUPPRESSED) {
+            logger.warn("{} ({}): {} [{} similar suppressed]", error, status.value(), exception.getMessage(), suppressed);
+        }
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -65,7 +98,7 @@ public class GlobalExceptionHandler {
     private ResponseEntity<ValidationErrorResponse> buildValidationErrorResponse(MethodArgumentNotValidException exception, List<ValidationErrorResponse.FieldError> errors) {
         ValidationErrorResponse errorResponse = new ValidationErrorResponse(VALIDATION_ERROR, errors);
 
-        logError(VALIDATION_ERROR, exception);
+        logError(VALIDATION_ERROR, exception, HttpStatus.BAD_REQUEST);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
@@ -146,6 +179,11 @@ public class GlobalExceptionHandler {
         return handleNotFoundException(exception);
     }
 
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException exception) {
+        return handleNotFoundException(exception);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResourceFoundException(NoResourceFoundException exception) {
         return handleNotFoundException(exception);
@@ -164,6 +202,34 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(DATA_INTEGRITY_VIOLATION, message, exception, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException exception) {
+        return buildErrorResponse(CONFLICT, exception.getMessage(), exception, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * I/O failures talking to the upstream. Only timeouts, whether connecting, waiting for a pooled
+     * connection or reading, are a 504; an upstream that cannot be reached is a 503 and any other
+     * failure, such as a reset mid-response, a 502.
+     */
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<ErrorResponse> handleResourceAccessException(ResourceAccessException exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof ConnectionRequestTimeoutException) {
+                return buildErrorResponse(UPSTREAM_TIMEOUT, exception.getMessage(), exception,
+                        HttpStatus.GATEWAY_TIMEOUT);
+            }
+
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return buildErrorResponse(UPSTREAM_UNAVAILABLE, exception.getMessage(), exception,
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        }
+
+        return buildErrorResponse(UPSTREAM_ERROR, exception.getMessage(), exception, HttpStatus.BAD_GATEWAY);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralExceptions(Exception exception) {
         return buildErrorResponse(INTERNAL_SERVER_ERROR, exception.getMessage(), exception, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -172,7 +238,7 @@ public class GlobalExceptionHandler {
     private ResponseEntity<ErrorResponse> buildErrorResponse(String message, String details, Throwable exception, HttpStatus status) {
         ErrorResponse errorResponse = new ErrorResponse(message, details);
 
-        logError(message, exception);
+        logError(message, exception, status);
 
         return new ResponseEntity<>(errorResponse, status);
     }
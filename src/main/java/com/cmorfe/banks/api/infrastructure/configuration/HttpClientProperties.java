@@ -0,0 +1,52 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "banks.http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+    /**
+     * Maximum number of pooled connections across all routes.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Maximum number of pooled connections to a single host.
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * Maximum wait for the TCP connection to the upstream to be established.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum inactivity between two packets once connected.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum wait for the upstream to start answering a request.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum wait for a free connection when the pool is exhausted.
+     */
+    private Duration poolTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Idle connections are closed in the background after this long.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    /**
+     * Connections are not reused after this long, so DNS and load balancer changes are picked up.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -0,0 +1,60 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import com.cmorfe.banks.api.infrastructure.monitoring.TimedCborHttpMessageConverter;
+import com.cmorfe.banks.api.infrastructure.monitoring.TimedJacksonHttpMessageConverter;
+import com.cmorfe.banks.api.infrastructure.monitoring.TimedSmileHttpMessageConverter;
+import com.cmorfe.banks.api.infrastructure.monitoring.TimedValidator;
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class LatencyMetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    private final SpringValidatorAdapter validator;
+
+    public LatencyMetricsConfig(MeterRegistry meterRegistry, SpringValidatorAdapter validator) {
+        this.meterRegistry = meterRegistry;
+
+        this.validator = validator;
+    }
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+    }
+
+    /**
+     * Replaces MVC's default Smile converter in place, so it stays after JSON and wildcard requests keep
+     * getting JSON. The builder bean is a prototype, so each binary mapper gets its own factory.
+     */
+    @Bean
+    public TimedSmileHttpMessageConverter timedSmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new TimedSmileHttpMessageConverter(builder.factory(BinaryFormat.SMILE.newFactory()).build(),
+                meterRegistry);
+    }
+
+    @Bean
+    public TimedCborHttpMessageConverter timedCborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new TimedCborHttpMessageConverter(builder.factory(BinaryFormat.CBOR.newFactory()).build(),
+                meterRegistry);
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(validator, meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most a fixed number of log events through per second and counts the rest, so a burst of
+ * client errors costs a few log lines instead of one per request. Best effort: window rollover races
+ * may let a few extra events through.
+ */
+final class LogRateLimiter {
+    static final long SUPPRESSED = -1;
+
+    private final int eventsPerSecond;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+
+    private final AtomicInteger events = new AtomicInteger();
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    LogRateLimiter(int eventsPerSecond) {
+        this(eventsPerSecond, System::currentTimeMillis);
+    }
+
+    LogRateLimiter(int eventsPerSecond, LongSupplier clock) {
+        this.eventsPerSecond = eventsPerSecond;
+
+        this.clock = clock;
+    }
+
+    /**
+     * @return {@link #SUPPRESSED} if the event should not be logged, otherwise the number of events
+     * suppressed since the last one let through
+     */
+    long tryAcquire() {
+        long second = clock.getAsLong() / 1000;
+
+        long current = window.get();
+
+        if (current != second && window.compareAndSet(current, second)) {
+            events.set(0);
+        }
+
+        if (events.incrementAndGet() <= eventsPerSecond) {
+            return suppressed.getAndSet(0);
+        }
+
+        suppressed.incrementAndGet();
+
+        return SUPPRESSED;
+    }
+}
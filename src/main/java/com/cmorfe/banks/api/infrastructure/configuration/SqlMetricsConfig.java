@@ -0,0 +1,47 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import com.cmorfe.banks.api.infrastructure.monitoring.SqlMetricsInterceptor;
+import com.cmorfe.banks.api.infrastructure.monitoring.SqlRequestMetrics;
+import com.cmorfe.banks.api.infrastructure.monitoring.SqlRequestSessionListener;
+import com.cmorfe.banks.api.infrastructure.monitoring.SqlRequestStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SqlMetricsConfig implements WebMvcConfigurer {
+    private static final String STATISTICS_FACTORY = "hibernate.stats.factory";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlMetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Applied by Spring Boot to the application task executor, which also runs MVC async work such as
+     * {@code StreamingResponseBody}, so its SQL is counted for the request that started it.
+     */
+    @Bean
+    public TaskDecorator sqlRequestMetricsTaskDecorator() {
+        return SqlRequestMetrics::propagate;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlRequestMetricsCustomizer() {
+        return properties -> {
+            properties.put(STATISTICS_FACTORY, new SqlRequestStatistics.Factory());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlRequestSessionListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlMetricsInterceptor(meterRegistry));
+    }
+}
@@ -1,22 +1,44 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
 
+import com.cmorfe.banks.api.application.pagination.BankSort;
+import com.cmorfe.banks.api.application.projection.BankFieldSet;
 import com.cmorfe.banks.api.application.services.BankService;
+import com.cmorfe.banks.api.application.services.BankSnapshot;
+import com.cmorfe.banks.api.application.services.BankSnapshotService;
+import com.cmorfe.banks.api.application.services.VersionedBank;
 import com.cmorfe.banks.api.infrastructure.error.ErrorResponse;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankPageResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.serialization.BankJsonFilter;
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 
 @Tag(name = "Banks API", description = "API for managing banks and their branches")
 @RestController
@@ -24,29 +46,200 @@ import java.util.List;
 @Validated
 public class BankController {
 
+    private static final String NDJSON_SEPARATOR = "\n";
+    private static final String GZIP = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String QUALITY = "q";
+    private static final String[] VARY = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING};
+
     private final BankService bankService;
 
-    public BankController(BankService bankService) {
+    private final BankSnapshotService bankSnapshotService;
+
+    private final ObjectMapper objectMapper;
+
+    public BankController(BankService bankService, BankSnapshotService bankSnapshotService, ObjectMapper objectMapper) {
         this.bankService = bankService;
+
+        this.bankSnapshotService = bankSnapshotService;
+
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Get all banks", responses = {
             @ApiResponse(responseCode = "200", description = "Banks found",
                     content = @Content(schema = @Schema(implementation = BankResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Banks not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<BankResponseDTO>> getAll() {
-        List<BankResponseDTO> banks = bankService.getAll();
+    public ResponseEntity<byte[]> getAll(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                         String acceptEncoding,
+                                         @RequestParam(required = false) String fields,
+                                         @RequestParam(required = false) String include,
+                                         WebRequest request) throws JsonProcessingException {
+        BankFieldSet fieldSet = BankFieldSet.parse(fields, include);
 
-        return ResponseEntity.ok(banks);
+        BinaryFormat format = BinaryFormat.preferredOverJson(request.getHeader(HttpHeaders.ACCEPT));
+
+        if (!fieldSet.isAll()) {
+            return getAllSelected(fieldSet, format, request);
+        }
+
+        // Binary formats are already compact, so only JSON is served gzipped
+        boolean gzip = format == null && acceptsGzip(acceptEncoding);
+
+        String eTag = BankETags.forList(bankSnapshotService.getInstanceId(), bankSnapshotService.getVersion(), gzip,
+                null, format);
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType(format))
+                .varyBy(VARY);
+
+        if (format != null) {
+            return response.body(bankSnapshotService.getBinarySnapshot(format));
+        }
+
+        BankSnapshot snapshot = bankSnapshotService.getSnapshot();
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(snapshot.gzip());
+        }
+
+        return response.body(snapshot.json());
+    }
+
+    private ResponseEntity<byte[]> getAllSelected(BankFieldSet fieldSet, BinaryFormat format, WebRequest request)
+            throws JsonProcessingException {
+        String eTag = BankETags.forList(bankSnapshotService.getInstanceId(), bankSnapshotService.getVersion(), false,
+                fieldSet.key(), format);
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        List<BankResponseDTO> banks = fieldSet.branches() ? bankService.getAll() : bankService.getAllSummaries();
+
+        byte[] json = objectMapper.writeValueAsBytes(banks.stream().map(fieldSet::select).toList());
+
+        return ResponseEntity.ok()
+                .contentType(mediaType(format))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(format == null ? json : format.transcode(json));
+    }
+
+    private static MediaType mediaType(BinaryFormat format) {
+        return format == null ? MediaType.APPLICATION_JSON : format.getMediaType();
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows gzip, either by name or through {@code *}. An explicit
+     * gzip entry wins over the wildcard, and a coding is refused when its quality is zero.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        double anyQuality = 0;
+
+        for (String encoding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = encoding.split(";");
+            String coding = parts[0].trim();
+
+            if (coding.equals(GZIP)) {
+                return quality(parts) > 0;
+            }
+
+            if (coding.equals(ANY_ENCODING)) {
+                anyQuality = quality(parts);
+            }
+        }
+
+        return anyQuality > 0;
+    }
+
+    /**
+     * The q parameter of an Accept-Encoding entry: 1 when absent, 0 when it is not a number.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+
+            if (parameter.length == 2 && parameter[0].trim().equals(QUALITY)) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    @Operation(summary = "Stream all banks as newline-delimited JSON", responses = {
+            @ApiResponse(responseCode = "200", description = "Banks streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BankResponseDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator(NDJSON_SEPARATOR)
+                    .writeValues(outputStream)) {
+                bankService.streamAll(bank -> write(writer, bank));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void write(SequenceWriter writer, BankResponseDTO bank) {
+        try {
+            writer.write(bank);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Operation(summary = "Get a page of banks using keyset pagination", responses = {
+            @ApiResponse(responseCode = "200", description = "Banks found",
+                    content = @Content(schema = @Schema(implementation = BankPageResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "limit")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<BankPageResponseDTO> getPage(@RequestParam int limit,
+                                                       @RequestParam(required = false) String after,
+                                                       @RequestParam(defaultValue = "id") String sort) {
+        BankPageResponseDTO page = bankService.getPage(limit, after, BankSort.fromParameter(sort));
+
+        return ResponseEntity.ok(page);
     }
 
     @Operation(summary = "Get bank by ID", responses = {
             @ApiResponse(responseCode = "200", description = "Bank found",
                     content = @Content(schema = @Schema(implementation = BankResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Bank not modified since the given ETag"),
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Bank not found",
@@ -56,10 +249,37 @@ public class BankController {
     })
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<BankResponseDTO> getById(@PathVariable Long id) {
-        BankResponseDTO bank = bankService.getById(id);
+    public ResponseEntity<BankResponseDTO> getById(@PathVariable Long id,
+                                                   @RequestParam(required = false) String fields,
+                                                   @RequestParam(required = false) String include,
+                                                   ServletWebRequest request) {
+        BankFieldSet fieldSet = BankFieldSet.parse(fields, include);
 
-        return ResponseEntity.ok(bank);
+        BinaryFormat format = BinaryFormat.preferredOverJson(request.getHeader(HttpHeaders.ACCEPT));
+
+        String selection = fieldSet.isAll() ? null : fieldSet.key();
+
+        Instant version = bankService.getVersion(id);
+
+        if (request.checkNotModified(BankETags.forBank(id, version, selection, format))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        VersionedBank bank = fieldSet.branches() ? bankService.getById(id) : bankService.getSummaryById(id);
+
+        // The content type is fixed up front so the body always matches the format in the ETag
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType(format))
+                .varyBy(HttpHeaders.ACCEPT);
+
+        if (!bank.version().equals(version) && request.getResponse() != null) {
+            // A write committed between the probe and the load, so the tag set by the probe is replaced
+            // with the one of the body actually served
+            request.getResponse().setHeader(HttpHeaders.ETAG,
+                    BankETags.forBank(id, bank.version(), selection, format));
+        }
+
+        return response.body(fieldSet.isAll() ? bank.bank() : fieldSet.select(bank.bank()));
     }
 
     @Operation(summary = "Create a new bank", responses = {
@@ -101,6 +321,26 @@ public class BankController {
         return ResponseEntity.ok(bank);
     }
 
+    @Operation(summary = "Add, update or remove branches of a bank by code", responses = {
+            @ApiResponse(responseCode = "204", description = "Branches changed"),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Bank or branch not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Duplicate entry detected",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping("/{id}/branches")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public ResponseEntity<Void> patchBranches(@PathVariable Long id,
+                                              @Valid @RequestBody BranchPatchRequestDTO branchPatchRequestDTO) {
+        bankService.patchBranches(id, branchPatchRequestDTO);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Delete a bank", responses = {
             @ApiResponse(responseCode = "204", description = "Bank deleted"),
             @ApiResponse(responseCode = "400", description = "Bad request",
@@ -122,6 +362,8 @@ public class BankController {
             @ApiResponse(responseCode = "200", description = "Banks found",
                     content = @Content(schema = @Schema(implementation = BankResponseDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "504", description = "Upstream unavailable or too slow",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/consume")
@@ -131,4 +373,27 @@ public class BankController {
 
         return ResponseEntity.ok(banks);
     }
+
+    @Operation(summary = "Stream the upstream banks without materializing them", responses = {
+            @ApiResponse(responseCode = "200", description = "Banks streamed",
+                    content = @Content(schema = @Schema(implementation = BankResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "504", description = "Upstream unavailable or too slow",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/consume/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> consumeStream(@RequestParam(required = false) String fields,
+                                                               @RequestParam(required = false) String type) {
+        BankJsonFilter filter = BankJsonFilter.of(fields, type);
+
+        StreamingResponseBody body = outputStream -> bankService.streamUpstreamBanks(filter, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
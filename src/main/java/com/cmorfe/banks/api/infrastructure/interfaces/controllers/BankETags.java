@@ -0,0 +1,41 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
+
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Strong entity tags for bank representations. A bank's tag is derived from its id and last
+ * modification time; the list's tag from the snapshot version and the instance that produced it.
+ * Sparse fieldsets append their selection and binary formats their name, so every representation gets
+ * its own tag.
+ */
+final class BankETags {
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private BankETags() {
+    }
+
+    static String forBank(Long id, Instant updatedAt, String selection, BinaryFormat format) {
+        return quote(id + "-" + updatedAt.getEpochSecond() + "." + updatedAt.getNano() + suffix(selection)
+                + suffix(format));
+    }
+
+    static String forList(String instanceId, long version, boolean gzip, String selection, BinaryFormat format) {
+        return quote("banks-" + instanceId + "-" + version + suffix(selection) + suffix(format)
+                + (gzip ? GZIP_SUFFIX : ""));
+    }
+
+    private static String suffix(String selection) {
+        return selection == null ? "" : "-" + selection;
+    }
+
+    private static String suffix(BinaryFormat format) {
+        return format == null ? "" : "-" + format.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
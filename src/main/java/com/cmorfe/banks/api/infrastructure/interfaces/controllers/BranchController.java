@@ -0,0 +1,59 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
+
+import com.cmorfe.banks.api.application.services.BranchService;
+import com.cmorfe.banks.api.infrastructure.error.ErrorResponse;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Branches API", description = "API for looking up branches by code")
+@RestController
+@RequestMapping("/api/branches")
+public class BranchController {
+
+    private final BranchService branchService;
+
+    public BranchController(BranchService branchService) {
+        this.branchService = branchService;
+    }
+
+    @Operation(summary = "Get a branch by its code", responses = {
+            @ApiResponse(responseCode = "200", description = "Branch found",
+                    content = @Content(schema = @Schema(implementation = BranchLookupResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Branch not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{code}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<BranchLookupResponseDTO> getByCode(@PathVariable String code) {
+        BranchLookupResponseDTO branch = branchService.getByCode(code);
+
+        return ResponseEntity.ok(branch);
+    }
+
+    @Operation(summary = "Get several branches by their codes", responses = {
+            @ApiResponse(responseCode = "200", description = "Branches found, unknown codes are skipped",
+                    content = @Content(schema = @Schema(implementation = BranchLookupResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<BranchLookupResponseDTO>> getByCodes(@RequestParam List<String> codes) {
+        List<BranchLookupResponseDTO> branches = branchService.getByCodes(codes);
+
+        return ResponseEntity.ok(branches);
+    }
+}
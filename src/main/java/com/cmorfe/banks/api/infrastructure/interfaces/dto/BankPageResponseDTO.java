@@ -0,0 +1,20 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Schema(description = "A page of banks ordered by the requested sort key")
+@Setter
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankPageResponseDTO {
+    @Schema(description = "The banks of the page")
+    private List<BankResponseDTO> banks;
+
+    @Schema(description = "Opaque cursor to pass as 'after' to fetch the next page, null on the last page")
+    private String nextCursor;
+}
@@ -1,7 +1,7 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.dto;
 
 import com.cmorfe.banks.api.domain.model.BankType;
-import com.cmorfe.banks.api.infrastructure.serialization.BankTypeDeserializer;
+import com.cmorfe.banks.api.infrastructure.serialization.BankRequestDTODeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
@@ -19,6 +19,7 @@ import java.util.List;
 @EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonDeserialize(using = BankRequestDTODeserializer.class)
 public class BankRequestDTO {
     @Schema(description = "The name of the bank", example = "Bank of Example")
     @NotBlank(message = "Name is required")
@@ -27,7 +28,6 @@ public class BankRequestDTO {
 
     @Schema(description = "The type of the bank", example = "PRIVATE")
     @NotNull(message = "Type is required")
-    @JsonDeserialize(using = BankTypeDeserializer.class)
     private BankType type;
 
     @Valid
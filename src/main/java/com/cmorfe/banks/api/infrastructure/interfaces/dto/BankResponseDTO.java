@@ -1,10 +1,15 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.dto;
 
 import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.serialization.BankResponseDTOSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = BankResponseDTOSerializer.class)
 @Setter
 @Getter
 @EqualsAndHashCode
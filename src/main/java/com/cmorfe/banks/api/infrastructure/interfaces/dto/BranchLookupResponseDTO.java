@@ -0,0 +1,20 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Schema(description = "A branch together with the id of its bank")
+@Setter
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class BranchLookupResponseDTO {
+    private Long id;
+    private String code;
+    private String address;
+    private String phone;
+
+    @Schema(description = "The id of the bank the branch belongs to")
+    private Long bankId;
+}
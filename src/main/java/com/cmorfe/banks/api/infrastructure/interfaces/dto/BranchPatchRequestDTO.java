@@ -0,0 +1,31 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Schema(description = "Branch changes to apply to a bank, keyed by branch code")
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class BranchPatchRequestDTO {
+    @Schema(description = "Branches to add to the bank")
+    @Valid
+    @Size(max = 1000, message = "Cannot add more than 1000 branches at once")
+    private List<BranchRequestDTO> add;
+
+    @Schema(description = "New address and phone of existing branches, matched by code")
+    @Valid
+    @Size(max = 1000, message = "Cannot update more than 1000 branches at once")
+    private List<BranchRequestDTO> update;
+
+    @Schema(description = "Codes of the branches to remove", example = "[\"3420\"]")
+    @Size(max = 1000, message = "Cannot remove more than 1000 branches at once")
+    private List<@NotBlank(message = "Code is required") @Size(max = 4, message = "Code cannot exceed 4 characters") String> remove;
+}
@@ -1,5 +1,7 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.dto;
 
+import com.cmorfe.banks.api.infrastructure.serialization.BranchRequestDTODeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,6 +13,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
+@JsonDeserialize(using = BranchRequestDTODeserializer.class)
 public class BranchRequestDTO {
     @Schema(description = "The code of the branch", example = "3420")
     @NotBlank(message = "Code is required")
@@ -1,5 +1,7 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.dto;
 
+import com.cmorfe.banks.api.infrastructure.serialization.BranchResponseDTOSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 @Setter
@@ -7,6 +9,7 @@ import lombok.*;
 @EqualsAndHashCode
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonSerialize(using = BranchResponseDTOSerializer.class)
 public class BranchResponseDTO {
     private Long id;
     private String code;
@@ -0,0 +1,88 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Times request body reads and response body writes of one format under
+ * {@value TimedJacksonHttpMessageConverter#PHASE_METRIC}, tagged with the declared payload type.
+ */
+class HttpBodyTimer {
+    private final MeterRegistry meterRegistry;
+
+    private final String format;
+
+    @FunctionalInterface
+    interface Read {
+        Object run() throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+
+    HttpBodyTimer(MeterRegistry meterRegistry, String format) {
+        this.meterRegistry = meterRegistry;
+
+        this.format = format;
+    }
+
+    Object read(Type type, Read read) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            return read.run();
+        } finally {
+            sample.stop(timer(meterRegistry, "deserialization", format, ResolvableType.forType(type)));
+        }
+    }
+
+    void write(Object body, @Nullable Type type, Write write) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            write.run();
+        } finally {
+            sample.stop(timer(meterRegistry, "serialization", format, declaredType(type, body)));
+        }
+    }
+
+    /**
+     * Keeps the element type of generic payloads such as {@code List<BankResponseDTO>}, falling back to the
+     * runtime class only when the handler declares no more than {@code Object}.
+     */
+    private static ResolvableType declaredType(@Nullable Type type, Object body) {
+        ResolvableType declared = type == null ? ResolvableType.NONE : ResolvableType.forType(type);
+
+        return declared.toClass() == Object.class ? ResolvableType.forInstance(body) : declared;
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String phase, String format, ResolvableType payloadType) {
+        return Timer.builder(TimedJacksonHttpMessageConverter.PHASE_METRIC)
+                .description("Time spent in one phase of HTTP request handling outside the handler")
+                .tag("phase", phase)
+                .tag("format", format)
+                .tag("type", typeName(payloadType))
+                .register(meterRegistry);
+    }
+
+    private static String typeName(ResolvableType type) {
+        String name = type.toClass().getSimpleName();
+
+        if (!type.hasGenerics()) {
+            return name;
+        }
+
+        return Arrays.stream(type.getGenerics())
+                .map(HttpBodyTimer::typeName)
+                .collect(Collectors.joining(",", name + "<", ">"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the database work of each handled request, tagged by endpoint like {@code http.server.requests}.
+ * Async requests keep their metrics in a request attribute across dispatches and are recorded once, when the
+ * last dispatch completes; work done on the async executor joins them through {@link SqlRequestMetrics#propagate}.
+ */
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+    static final String STATEMENTS_METRIC = "banks.sql.statements";
+    static final String ROWS_METRIC = "banks.sql.rows";
+    static final String ENTITIES_LOADED_METRIC = "banks.sql.entities.loaded";
+    static final String EXECUTION_METRIC = "banks.sql.execution";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final String METRICS_ATTRIBUTE = SqlRequestMetrics.class.getName();
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        // An async dispatch resumes the metrics opened by the initial one
+        if (request.getAttribute(METRICS_ATTRIBUTE) instanceof SqlRequestMetrics metrics) {
+            SqlRequestMetrics.bind(metrics);
+        } else {
+            request.setAttribute(METRICS_ATTRIBUTE, SqlRequestMetrics.begin());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        SqlRequestMetrics.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        SqlRequestMetrics.unbind();
+
+        if (!(request.getAttribute(METRICS_ATTRIBUTE) instanceof SqlRequestMetrics metrics)) {
+            return;
+        }
+
+        request.removeAttribute(METRICS_ATTRIBUTE);
+
+        record(metrics, request, response);
+    }
+
+    private void record(SqlRequestMetrics metrics, HttpServletRequest request, HttpServletResponse response) {
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        Tags tags = Tags.of(
+                "uri", pattern == null ? UNKNOWN_URI : pattern.toString(),
+                "method", request.getMethod(),
+                "status", Integer.toString(response.getStatus()));
+
+        summary(STATEMENTS_METRIC, "statements", tags).record(metrics.statements());
+
+        summary(ROWS_METRIC, "rows", tags).record(metrics.rows());
+
+        summary(ENTITIES_LOADED_METRIC, "entities", tags).record(metrics.entitiesLoaded());
+
+        Timer.builder(EXECUTION_METRIC)
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.executionNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
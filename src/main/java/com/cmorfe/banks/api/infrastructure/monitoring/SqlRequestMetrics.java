@@ -0,0 +1,139 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Database work done for the request bound to the current thread. Hibernate reports into it through
+ * {@link SqlRequestStatistics} and {@link SqlRequestSessionListener}; {@link SqlMetricsInterceptor} opens it
+ * before the handler runs and publishes it once the request completes. Async work joins the same request
+ * through {@link #propagate(Runnable)}, so counters may be updated from more than one thread. Work outside
+ * a request is ignored.
+ */
+public final class SqlRequestMetrics {
+    private static final ThreadLocal<SqlRequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private static final ThreadLocal<Long> EXECUTION_START = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder entitiesLoaded = new LongAdder();
+
+    private final LongAdder executionNanos = new LongAdder();
+
+    SqlRequestMetrics() {
+    }
+
+    static void bind(SqlRequestMetrics metrics) {
+        CURRENT.set(metrics);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+
+        EXECUTION_START.remove();
+    }
+
+    static SqlRequestMetrics begin() {
+        SqlRequestMetrics metrics = new SqlRequestMetrics();
+
+        bind(metrics);
+
+        return metrics;
+    }
+
+    static SqlRequestMetrics end() {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        unbind();
+
+        return metrics;
+    }
+
+    /**
+     * Runs the task with the calling thread's request metrics bound, so SQL issued from an async executor,
+     * such as a {@code StreamingResponseBody}, counts towards the request that submitted it.
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        if (metrics == null) {
+            return task;
+        }
+
+        return () -> {
+            SqlRequestMetrics previous = CURRENT.get();
+
+            bind(metrics);
+
+            try {
+                task.run();
+            } finally {
+                unbind();
+
+                if (previous != null) {
+                    bind(previous);
+                }
+            }
+        };
+    }
+
+    static void statementPrepared() {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        if (metrics != null) {
+            metrics.statements.increment();
+        }
+    }
+
+    static void rowsFetched(int count) {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        if (metrics != null) {
+            metrics.rows.add(count);
+        }
+    }
+
+    static void entityLoaded() {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        if (metrics != null) {
+            metrics.entitiesLoaded.increment();
+        }
+    }
+
+    static void executionStarted() {
+        if (CURRENT.get() != null) {
+            EXECUTION_START.set(System.nanoTime());
+        }
+    }
+
+    static void executionEnded() {
+        SqlRequestMetrics metrics = CURRENT.get();
+
+        Long start = EXECUTION_START.get();
+
+        if (metrics != null && start != null) {
+            metrics.executionNanos.add(System.nanoTime() - start);
+
+            EXECUTION_START.remove();
+        }
+    }
+
+    long statements() {
+        return statements.sum();
+    }
+
+    long rows() {
+        return rows.sum();
+    }
+
+    long entitiesLoaded() {
+        return entitiesLoaded.sum();
+    }
+
+    long executionNanos() {
+        return executionNanos.sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time each session spends executing JDBC statements and batches to the current request.
+ * Hibernate creates one per session, so it must stay public with a no-arg constructor.
+ */
+public class SqlRequestSessionListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestMetrics.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestMetrics.executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        SqlRequestMetrics.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlRequestMetrics.executionEnded();
+    }
+}
@@ -0,0 +1,45 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Session factory statistics that also attribute statements, query rows and entity loads to the current
+ * request. The global counters behave as usual, so {@code hibernate.*} metrics are unaffected.
+ */
+public class SqlRequestStatistics extends StatisticsImpl {
+
+    public SqlRequestStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+
+        SqlRequestMetrics.statementPrepared();
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+
+        SqlRequestMetrics.rowsFetched(rows);
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+
+        SqlRequestMetrics.entityLoaded();
+    }
+
+    public static class Factory implements StatisticsFactory {
+        @Override
+        public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+            return new SqlRequestStatistics(sessionFactory);
+        }
+    }
+}
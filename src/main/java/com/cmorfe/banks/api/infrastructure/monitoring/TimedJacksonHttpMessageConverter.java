@@ -0,0 +1,42 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that times request body parsing and response body writing per payload type,
+ * keeping serialization apart from handler time in {@code http.server.requests}.
+ *
+ * @see TimedSmileHttpMessageConverter
+ * @see TimedCborHttpMessageConverter
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    public static final String PHASE_METRIC = "banks.http.phase";
+
+    static final String FORMAT = "json";
+
+    private final HttpBodyTimer bodyTimer;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+
+        this.bodyTimer = new HttpBodyTimer(meterRegistry, FORMAT);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return bodyTimer.read(type, () -> super.read(type, contextClass, inputMessage));
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        bodyTimer.write(object, type, () -> super.writeInternal(object, type, outputMessage));
+    }
+}
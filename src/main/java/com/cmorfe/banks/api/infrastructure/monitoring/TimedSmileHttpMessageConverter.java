@@ -0,0 +1,36 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile counterpart of {@link TimedJacksonHttpMessageConverter}, tagged with format {@value #FORMAT}.
+ */
+public class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+    static final String FORMAT = "smile";
+
+    private final HttpBodyTimer bodyTimer;
+
+    public TimedSmileHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+
+        this.bodyTimer = new HttpBodyTimer(meterRegistry, FORMAT);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return bodyTimer.read(type, () -> super.read(type, contextClass, inputMessage));
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        bodyTimer.write(object, type, () -> super.writeInternal(object, type, outputMessage));
+    }
+}
@@ -0,0 +1,41 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Times {@code @Valid} request body validation per target type under {@code banks.http.phase}.
+ */
+public class TimedValidator implements SmartValidator {
+    private final SmartValidator delegate;
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedValidator(SmartValidator delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        timer(target).record(() -> delegate.validate(target, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        timer(target).record(() -> delegate.validate(target, errors, validationHints));
+    }
+
+    private Timer timer(Object target) {
+        return HttpBodyTimer.timer(meterRegistry, "validation", "none", ResolvableType.forInstance(target));
+    }
+}
@@ -0,0 +1,117 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, typically inside
+ * {@code synchronized} blocks of JDBC drivers or pools. Every pinned event is recorded in the
+ * {@value #PINNED_METRIC} timer, tagged with the first non-JDK class on the stack; the stack trace is
+ * logged once per source.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    static final String PINNED_METRIC = "banks.virtual-threads.pinned";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SOURCE_TAG = "source";
+    private static final String UNKNOWN_SOURCE = "unknown";
+    private static final Set<String> JDK_PACKAGES = Set.of("java.", "javax.", "jdk.", "sun.");
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration threshold;
+
+    private final Set<String> reportedSources = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${banks.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String source = findSource(event.getStackTrace());
+
+        Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag(SOURCE_TAG, source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSources.add(source)) {
+            logger.warn("Virtual thread pinned for {} in {}:\n{}", event.getDuration(), source, format(event.getStackTrace()));
+        }
+    }
+
+    private static String findSource(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SOURCE;
+        }
+
+        return stackTrace.getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(className -> JDK_PACKAGES.stream().noneMatch(className::startsWith))
+                .findFirst()
+                .orElse(UNKNOWN_SOURCE);
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\tno stack trace";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            builder.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+
+        return builder.toString();
+    }
+}
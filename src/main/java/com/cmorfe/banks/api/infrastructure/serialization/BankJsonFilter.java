@@ -0,0 +1,137 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Copies a JSON array of banks token by token, keeping only the requested bank fields and, optionally,
+ * only banks of one type. At most one bank is buffered at a time, so the type can be checked whatever
+ * the field order.
+ */
+public final class BankJsonFilter {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final String TYPE_FIELD = "type";
+    private static final Set<String> BANK_FIELDS = Set.of("id", "name", TYPE_FIELD, "branches");
+    private static final String INVALID_FIELD = "Invalid field '%s', expected any of [id, name, type, branches]";
+    private static final String INVALID_TYPE = "Invalid type '%s', expected one of [PUBLIC, PRIVATE]";
+    private static final String EXPECTED_ARRAY = "Expected a JSON array of banks";
+
+    private final Set<String> fields;
+
+    private final BankType type;
+
+    private BankJsonFilter(Set<String> fields, BankType type) {
+        this.fields = fields;
+
+        this.type = type;
+    }
+
+    /**
+     * @param fields comma-separated bank fields to keep, or {@code null} to keep them all
+     * @param type   bank type to keep, or {@code null} to keep every bank
+     */
+    public static BankJsonFilter of(String fields, String type) {
+        return new BankJsonFilter(parseFields(fields), parseType(type));
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return BANK_FIELDS;
+        }
+
+        Set<String> parsed = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+
+        parsed.stream()
+                .filter(field -> !BANK_FIELDS.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new IllegalArgumentException(String.format(INVALID_FIELD, field));
+                });
+
+        return parsed;
+    }
+
+    private static BankType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+
+        try {
+            return BankType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(String.format(INVALID_TYPE, type));
+        }
+    }
+
+    /**
+     * Whether the filter keeps everything, so the upstream body can be copied byte for byte.
+     */
+    public boolean isPassThrough() {
+        return type == null && fields.size() == BANK_FIELDS.size();
+    }
+
+    public void copy(InputStream input, OutputStream output) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(input);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, EXPECTED_ARRAY);
+            }
+
+            generator.writeStartArray();
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                copyBank(parser, generator);
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, EXPECTED_ARRAY);
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    private void copyBank(JsonParser parser, JsonGenerator generator) throws IOException {
+        TokenBuffer bank = new TokenBuffer(parser);
+
+        String bankType = null;
+
+        bank.writeStartObject();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+
+            parser.nextToken();
+
+            if (TYPE_FIELD.equals(field)) {
+                bankType = parser.getValueAsString();
+            }
+
+            if (fields.contains(field)) {
+                bank.writeFieldName(field);
+                bank.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        bank.writeEndObject();
+
+        if (type == null || type.name().equals(bankType)) {
+            bank.serialize(generator);
+        }
+    }
+}
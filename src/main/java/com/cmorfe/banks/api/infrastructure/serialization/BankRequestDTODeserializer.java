@@ -0,0 +1,119 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.ObjectBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cmorfe.banks.api.infrastructure.serialization.BranchRequestDTODeserializer.firstField;
+import static com.cmorfe.banks.api.infrastructure.serialization.BranchRequestDTODeserializer.readString;
+
+/**
+ * Reads a bank straight from the token stream instead of through bean introspection. Branches are
+ * collected in the context's reusable chunk buffer and copied once into a list of the exact size.
+ */
+public class BankRequestDTODeserializer extends StdDeserializer<BankRequestDTO> {
+    private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String BRANCHES = "branches";
+
+    private final BankTypeDeserializer typeDeserializer = new BankTypeDeserializer();
+
+    private final BranchRequestDTODeserializer branchDeserializer = new BranchRequestDTODeserializer();
+
+    public BankRequestDTODeserializer() {
+        super(BankRequestDTO.class);
+    }
+
+    @Override
+    public BankRequestDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String field = firstField(parser, context, BankRequestDTO.class);
+
+        BankRequestDTO bank = new BankRequestDTO();
+
+        for (; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+
+            if (!readField(parser, context, bank, field)) {
+                context.handleUnknownProperty(parser, this, BankRequestDTO.class, field);
+            }
+        }
+
+        return bank;
+    }
+
+    /**
+     * @return {@code false} if the field is not a bank field
+     */
+    private boolean readField(JsonParser parser, DeserializationContext context, BankRequestDTO bank, String field)
+            throws IOException {
+        boolean isNull = parser.hasToken(JsonToken.VALUE_NULL);
+
+        try {
+            switch (field) {
+                case NAME -> bank.setName(readString(parser, context, null));
+                case TYPE -> bank.setType(isNull ? null : typeDeserializer.deserialize(parser, context));
+                case BRANCHES -> bank.setBranches(isNull ? null : readBranches(parser, context));
+                default -> {
+                    return false;
+                }
+            }
+        } catch (JsonMappingException exception) {
+            // Keeps the field path in error responses, as bean deserialization does
+            throw JsonMappingException.wrapWithPath(exception, bank, field);
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BranchRequestDTO> readBranches(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            return (List<BranchRequestDTO>) context.handleUnexpectedToken(List.class, parser);
+        }
+
+        StringInterner interner = StringInterner.of(context);
+
+        ObjectBuffer buffer = context.leaseObjectBuffer();
+
+        Object[] chunk = buffer.resetAndStart();
+
+        int count = 0;
+
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == chunk.length) {
+                chunk = buffer.appendCompletedChunk(chunk);
+
+                count = 0;
+            }
+
+            try {
+                chunk[count] = token == JsonToken.VALUE_NULL
+                        ? null
+                        : BranchRequestDTODeserializer.read(parser, context, branchDeserializer, interner);
+            } catch (JsonMappingException exception) {
+                throw JsonMappingException.wrapWithPath(exception, chunk, buffer.bufferedSize() + count);
+            }
+
+            count++;
+        }
+
+        List<Object> branches = new ArrayList<>(buffer.bufferedSize() + count);
+
+        buffer.completeAndClearBuffer(chunk, count, branches);
+
+        context.returnObjectBuffer(buffer);
+
+        return (List<BranchRequestDTO>) (List<?>) branches;
+    }
+}
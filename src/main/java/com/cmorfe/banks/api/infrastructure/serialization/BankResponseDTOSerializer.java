@@ -0,0 +1,67 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a bank without bean introspection, in the order and with the {@code NON_NULL} inclusion the
+ * DTO declares. Field names and bank types are encoded once, so the generator copies their UTF-8
+ * bytes straight into its buffer.
+ */
+public class BankResponseDTOSerializer extends StdSerializer<BankResponseDTO> {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString BRANCHES = new SerializedString("branches");
+    private static final SerializedString[] TYPES = Arrays.stream(BankType.values())
+            .map(type -> new SerializedString(type.name()))
+            .toArray(SerializedString[]::new);
+
+    public BankResponseDTOSerializer() {
+        super(BankResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(BankResponseDTO bank, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(bank);
+
+        if (bank.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(bank.getId());
+        }
+
+        if (bank.getName() != null) {
+            generator.writeFieldName(NAME);
+            generator.writeString(bank.getName());
+        }
+
+        if (bank.getType() != null) {
+            generator.writeFieldName(TYPE);
+            generator.writeString(TYPES[bank.getType().ordinal()]);
+        }
+
+        List<BranchResponseDTO> branches = bank.getBranches();
+
+        if (branches != null) {
+            generator.writeFieldName(BRANCHES);
+            generator.writeStartArray(branches, branches.size());
+
+            for (BranchResponseDTO branch : branches) {
+                BranchResponseDTOSerializer.write(branch, generator);
+            }
+
+            generator.writeEndArray();
+        }
+
+        generator.writeEndObject();
+    }
+}
@@ -7,17 +7,26 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class BankTypeDeserializer extends JsonDeserializer<BankType> {
+    // Looked up instead of BankType.valueOf, which reports an unknown name by throwing
+    private static final Map<String, BankType> TYPES = Arrays.stream(BankType.values())
+            .collect(Collectors.toUnmodifiableMap(BankType::name, Function.identity()));
 
     @Override
     public BankType deserialize(JsonParser parser, DeserializationContext context) throws IOException {
         String value = parser.getText();
 
-        try {
-            return BankType.valueOf(value);
-        } catch (IllegalArgumentException exception) {
+        BankType type = TYPES.get(value);
+
+        if (type == null) {
             throw new InvalidFormatException(parser, "Invalid value for BankType: " + value, value, BankType.class);
         }
+
+        return type;
     }
 }
@@ -0,0 +1,116 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Binary Jackson formats served alongside JSON, in order of preference: Smile writes repeated field
+ * names once, so it is the more compact of the two for bank lists.
+ */
+public enum BinaryFormat {
+    SMILE(new MediaType("application", "x-jackson-smile"), SmileFactory::new),
+    CBOR(MediaType.APPLICATION_CBOR, CBORFactory::new);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final MediaType mediaType;
+
+    private final Supplier<JsonFactory> factorySupplier;
+
+    // Only used for token streaming, so it is never bound to an ObjectMapper
+    private final JsonFactory streamingFactory;
+
+    BinaryFormat(MediaType mediaType, Supplier<JsonFactory> factorySupplier) {
+        this.mediaType = mediaType;
+
+        this.factorySupplier = factorySupplier;
+
+        this.streamingFactory = factorySupplier.get();
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Creates a factory for an {@code ObjectMapper}, which takes ownership of the factory it is built with.
+     */
+    public JsonFactory newFactory() {
+        return factorySupplier.get();
+    }
+
+    /**
+     * Rewrites a JSON document in this format token by token, without binding it to objects.
+     */
+    public byte[] transcode(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 2 + 64);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = streamingFactory.createGenerator(outputStream)) {
+            parser.nextToken();
+
+            generator.copyCurrentStructure(parser);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Returns the binary format an {@code Accept} header rates strictly above JSON, or {@code null} when
+     * JSON should be served. Ties go to JSON, so wildcards and missing or malformed headers keep getting JSON.
+     */
+    public static BinaryFormat preferredOverJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        List<MediaType> acceptedTypes;
+
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException exception) {
+            return null;
+        }
+
+        BinaryFormat preferred = null;
+
+        double bestQuality = quality(acceptedTypes, MediaType.APPLICATION_JSON);
+
+        for (BinaryFormat format : values()) {
+            double quality = quality(acceptedTypes, format.mediaType);
+
+            if (quality > bestQuality) {
+                preferred = format;
+
+                bestQuality = quality;
+            }
+        }
+
+        return preferred;
+    }
+
+    private static double quality(List<MediaType> acceptedTypes, MediaType mediaType) {
+        double quality = 0;
+
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(mediaType)) {
+                quality = Math.max(quality, acceptedType.getQualityValue());
+            }
+        }
+
+        return quality;
+    }
+}
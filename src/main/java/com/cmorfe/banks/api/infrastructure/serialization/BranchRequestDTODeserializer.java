@@ -0,0 +1,109 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads a branch straight from the token stream. Addresses and phones are interned for the whole call,
+ * since bulk payloads tend to repeat them; codes are unique and are read as they are.
+ */
+public class BranchRequestDTODeserializer extends StdDeserializer<BranchRequestDTO> {
+    private static final String CODE = "code";
+    private static final String ADDRESS = "address";
+    private static final String PHONE = "phone";
+
+    public BranchRequestDTODeserializer() {
+        super(BranchRequestDTO.class);
+    }
+
+    @Override
+    public BranchRequestDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return read(parser, context, this, StringInterner.of(context));
+    }
+
+    static BranchRequestDTO read(JsonParser parser, DeserializationContext context, JsonDeserializer<?> deserializer,
+                                 StringInterner interner) throws IOException {
+        String field = firstField(parser, context, BranchRequestDTO.class);
+
+        BranchRequestDTO branch = new BranchRequestDTO();
+
+        for (; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+
+            if (!readField(parser, context, branch, field, interner)) {
+                context.handleUnknownProperty(parser, deserializer, BranchRequestDTO.class, field);
+            }
+        }
+
+        return branch;
+    }
+
+    private static boolean readField(JsonParser parser, DeserializationContext context, BranchRequestDTO branch,
+                                     String field, StringInterner interner) throws IOException {
+        try {
+            switch (field) {
+                case CODE -> branch.setCode(readString(parser, context, null));
+                case ADDRESS -> branch.setAddress(readString(parser, context, interner));
+                case PHONE -> branch.setPhone(readString(parser, context, interner));
+                default -> {
+                    return false;
+                }
+            }
+        } catch (JsonMappingException exception) {
+            throw JsonMappingException.wrapWithPath(exception, branch, field);
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves into the object the parser is on and returns its first field name, or {@code null} if it is empty.
+     */
+    static String firstField(JsonParser parser, DeserializationContext context, Class<?> type) throws IOException {
+        if (parser.isExpectedStartObjectToken()) {
+            return parser.nextFieldName();
+        }
+
+        if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            return parser.currentName();
+        }
+
+        if (parser.hasToken(JsonToken.END_OBJECT)) {
+            return null;
+        }
+
+        context.handleUnexpectedToken(type, parser);
+
+        return null;
+    }
+
+    /**
+     * Reads a string the way Jackson's default does: {@code null} stays null and other scalars are
+     * taken as text.
+     *
+     * @param interner the interner to read strings through, or {@code null} to read them as they are
+     */
+    static String readString(JsonParser parser, DeserializationContext context, StringInterner interner)
+            throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return interner == null ? parser.getText() : interner.intern(parser);
+        }
+
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getText();
+        }
+
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+}
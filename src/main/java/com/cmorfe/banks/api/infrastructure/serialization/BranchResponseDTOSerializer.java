@@ -0,0 +1,59 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a branch without bean introspection. Every field is written, null or not, as the DTO declares
+ * no inclusion rule.
+ */
+public class BranchResponseDTOSerializer extends StdSerializer<BranchResponseDTO> {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString PHONE = new SerializedString("phone");
+
+    public BranchResponseDTOSerializer() {
+        super(BranchResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(BranchResponseDTO branch, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(branch, generator);
+    }
+
+    static void write(BranchResponseDTO branch, JsonGenerator generator) throws IOException {
+        if (branch == null) {
+            generator.writeNull();
+
+            return;
+        }
+
+        generator.writeStartObject(branch);
+
+        generator.writeFieldName(ID);
+
+        if (branch.getId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(branch.getId());
+        }
+
+        // writeString writes a JSON null for a null value
+        generator.writeFieldName(CODE);
+        generator.writeString(branch.getCode());
+
+        generator.writeFieldName(ADDRESS);
+        generator.writeString(branch.getAddress());
+
+        generator.writeFieldName(PHONE);
+        generator.writeString(branch.getPhone());
+
+        generator.writeEndObject();
+    }
+}
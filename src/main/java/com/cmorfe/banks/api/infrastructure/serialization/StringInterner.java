@@ -0,0 +1,73 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+
+/**
+ * Fixed-size, direct-mapped cache of string values shared by one deserialization call. A value seen
+ * before is matched against the parser's character buffer, so repeated addresses and phones neither
+ * allocate a new {@code String} nor keep a copy each. Colliding values simply replace each other.
+ */
+final class StringInterner {
+    private static final int SLOTS = 512;
+
+    private final String[] values = new String[SLOTS];
+
+    /**
+     * Returns the interner of the current call, creating it on first use.
+     */
+    static StringInterner of(DeserializationContext context) {
+        StringInterner interner = (StringInterner) context.getAttribute(StringInterner.class);
+
+        if (interner == null) {
+            interner = new StringInterner();
+
+            context.setAttribute(StringInterner.class, interner);
+        }
+
+        return interner;
+    }
+
+    /**
+     * Returns the text of the current string token.
+     */
+    String intern(JsonParser parser) throws IOException {
+        return intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    String intern(char[] buffer, int offset, int length) {
+        int hash = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+
+        String value = values[slot];
+
+        if (value == null || !matches(value, buffer, offset, length)) {
+            value = new String(buffer, offset, length);
+
+            values[slot] = value;
+        }
+
+        return value;
+    }
+
+    private static boolean matches(String value, char[] buffer, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -1,5 +1,5 @@
-INSERT INTO banks (name, type) VALUES ('Bank A', 'PUBLIC');
-INSERT INTO banks (name, type) VALUES ('Bank B', 'PRIVATE');
+INSERT INTO banks (id, name, type) VALUES (NEXT VALUE FOR banks_seq, 'Bank A', 'PUBLIC');
+INSERT INTO banks (id, name, type) VALUES (NEXT VALUE FOR banks_seq, 'Bank B', 'PRIVATE');
 
-INSERT INTO branches (code, address, phone, bank_id) VALUES ('001', '123 Main St', '123-456-7890', 1);
-INSERT INTO branches (code, address, phone, bank_id) VALUES ('002', '456 Elm St', '987-654-3210', 2);
+INSERT INTO branches (id, code, address, phone, bank_id) VALUES (NEXT VALUE FOR branches_seq, '001', '123 Main St', '123-456-7890', (SELECT id FROM banks WHERE name = 'Bank A'));
+INSERT INTO branches (id, code, address, phone, bank_id) VALUES (NEXT VALUE FOR branches_seq, '002', '456 Elm St', '987-654-3210', (SELECT id FROM banks WHERE name = 'Bank B'));
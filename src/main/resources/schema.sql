@@ -1,6 +1,10 @@
+CREATE SEQUENCE IF NOT EXISTS banks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS branches_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS banks
 (
-    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id         BIGINT DEFAULT NEXT VALUE FOR banks_seq PRIMARY KEY,
     name       VARCHAR(100) NOT NULL UNIQUE,
     type       VARCHAR(50)  NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -9,7 +13,7 @@ CREATE TABLE IF NOT EXISTS banks
 
 CREATE TABLE IF NOT EXISTS branches
 (
-    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id         BIGINT DEFAULT NEXT VALUE FOR branches_seq PRIMARY KEY,
     code       VARCHAR(4)   NOT NULL UNIQUE,
     address    VARCHAR(200) NOT NULL,
     phone      VARCHAR(15)  NOT NULL,
@@ -18,3 +22,5 @@ CREATE TABLE IF NOT EXISTS branches
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (bank_id) REFERENCES banks (id) ON DELETE CASCADE
 );
+
+CREATE INDEX IF NOT EXISTS idx_branches_bank_id ON branches (bank_id);
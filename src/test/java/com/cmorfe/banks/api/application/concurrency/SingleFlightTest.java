@@ -0,0 +1,159 @@
+package com.cmorfe.banks.api.application.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int WAITERS = 20;
+    private static final String RESULT = "result";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final AtomicInteger coalesced = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>(coalesced::incrementAndGet);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallersShareOneCall() throws Exception {
+        List<Future<String>> results = startCallers(() -> RESULT);
+
+        awaitCoalesced();
+
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals(RESULT, result.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailureIsPropagatedToEveryWaiter() throws Exception {
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        List<Future<String>> results = startCallers(() -> {
+            throw failure;
+        });
+
+        awaitCoalesced();
+
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+
+            assertSame(failure, exception.getCause());
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testCallAfterCompletionStartsNewFlight() {
+        release.countDown();
+
+        singleFlight.execute(this::call);
+        singleFlight.execute(this::call);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, coalesced.get());
+    }
+
+    @Test
+    void testCallAfterFailureStartsNewFlight() {
+        release.countDown();
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(() -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(RESULT, singleFlight.execute(this::call));
+    }
+
+    @Test
+    void testInterruptedWaiterDoesNotCancelCall() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute(this::call));
+
+        while (calls.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        Future<String> waiter = executor.submit(() -> singleFlight.execute(this::call));
+
+        awaitCoalesced(1);
+
+        waiter.cancel(true);
+
+        release.countDown();
+
+        assertEquals(RESULT, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    private List<Future<String>> startCallers(Callable<String> result) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> singleFlight.execute(() -> {
+            call();
+
+            try {
+                return result.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        })));
+
+        while (calls.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        for (int i = 1; i < WAITERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(this::call)));
+        }
+
+        return results;
+    }
+
+    private String call() {
+        calls.incrementAndGet();
+
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return RESULT;
+    }
+
+    private void awaitCoalesced() throws InterruptedException {
+        awaitCoalesced(WAITERS - 1);
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        while (coalesced.get() < expected) {
+            Thread.sleep(10);
+        }
+    }
+}
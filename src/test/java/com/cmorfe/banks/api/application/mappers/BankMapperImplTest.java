@@ -26,6 +26,12 @@ class BankMapperImplTest {
         assertNull(result);
     }
 
+    @Test
+    void shouldReturnNullWhenBankSummaryIsNull() {
+        BankResponseDTO result = bankMapper.toSummaryResponseDTO(null);
+        assertNull(result);
+    }
+
     @Test
     void shouldReturnNullWhenBranchRequestDTOListIsNull() {
         List<Branch> result = bankMapper.branchRequestDTOListToBranchList(null);
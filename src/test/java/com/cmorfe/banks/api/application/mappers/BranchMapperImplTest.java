@@ -1,9 +1,12 @@
 package com.cmorfe.banks.api.application.mappers;
 
 import com.cmorfe.banks.api.domain.model.Branch;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
 import org.junit.jupiter.api.Test;
 
+import static com.cmorfe.banks.api.util.TestUtils.createBranchLookup;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 class BranchMapperImplTest {
@@ -21,4 +24,17 @@ class BranchMapperImplTest {
         BranchResponseDTO result = branchMapper.toResponseDTO(null);
         assertNull(result);
     }
+
+    @Test
+    void shouldReturnNullWhenBranchLookupIsNull() {
+        BranchLookupResponseDTO result = branchMapper.toLookupResponseDTO(null);
+        assertNull(result);
+    }
+
+    @Test
+    void shouldMapBranchLookup() {
+        BranchLookupResponseDTO result = branchMapper.toLookupResponseDTO(createBranchLookup(1L, "3420", 2L));
+
+        assertEquals(new BranchLookupResponseDTO(1L, "3420", "Address 3420", "11-1234-5678", 2L), result);
+    }
 }
\ No newline at end of file
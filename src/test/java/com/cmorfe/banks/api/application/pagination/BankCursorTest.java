@@ -0,0 +1,56 @@
+package com.cmorfe.banks.api.application.pagination;
+
+import com.cmorfe.banks.api.domain.model.Bank;
+import com.cmorfe.banks.api.domain.model.BankType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBank;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankCursorTest {
+    private static final String BANK_NAME = "Bank 1";
+
+    private final Bank bank = createBank(42L, BANK_NAME, BankType.PUBLIC, Instant.now());
+
+    @Test
+    void shouldRoundTripIdCursor() {
+        String encoded = BankCursor.of(BankSort.ID, bank).encode();
+
+        assertEquals(42L, BankCursor.decode(encoded, BankSort.ID).idValue());
+    }
+
+    @Test
+    void shouldRoundTripNameCursor() {
+        String encoded = BankCursor.of(BankSort.NAME, bank).encode();
+
+        assertEquals(BANK_NAME, BankCursor.decode(encoded, BankSort.NAME).value());
+    }
+
+    @Test
+    void shouldStartBeforeAnyKey() {
+        assertEquals(0L, BankCursor.first(BankSort.ID).idValue());
+        assertEquals("", BankCursor.first(BankSort.NAME).value());
+    }
+
+    @Test
+    void shouldRejectCursorOfAnotherSort() {
+        String encoded = BankCursor.of(BankSort.NAME, bank).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> BankCursor.decode(encoded, BankSort.ID));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> BankCursor.decode("not base64!", BankSort.ID));
+        assertThrows(IllegalArgumentException.class,
+                () -> BankCursor.decode(new BankCursor(BankSort.ID, "abc").encode(), BankSort.ID));
+    }
+
+    @Test
+    void shouldParseSortParameter() {
+        assertEquals(BankSort.NAME, BankSort.fromParameter("NAME"));
+        assertThrows(IllegalArgumentException.class, () -> BankSort.fromParameter("type"));
+    }
+}
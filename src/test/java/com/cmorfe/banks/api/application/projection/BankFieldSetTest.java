@@ -0,0 +1,72 @@
+package com.cmorfe.banks.api.application.projection;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankFieldSetTest {
+    private final List<BranchResponseDTO> branches = List.of(new BranchResponseDTO(1L, "0001", "Address", "11-1234-5678"));
+
+    private final BankResponseDTO bank = new BankResponseDTO(1L, "Bank 1", BankType.PUBLIC, branches);
+
+    @Test
+    void shouldSelectEverythingWithoutParameters() {
+        BankFieldSet fieldSet = BankFieldSet.parse(null, null);
+
+        assertTrue(fieldSet.isAll());
+        assertEquals(bank, fieldSet.select(bank));
+    }
+
+    @Test
+    void shouldLeaveBranchesOutUnlessIncluded() {
+        BankFieldSet fieldSet = BankFieldSet.parse("id, name", null);
+
+        assertFalse(fieldSet.isAll());
+        assertFalse(fieldSet.branches());
+        assertEquals(new BankResponseDTO(1L, "Bank 1", null, null), fieldSet.select(bank));
+    }
+
+    @Test
+    void shouldIncludeBranchesWithAllFields() {
+        BankFieldSet fieldSet = BankFieldSet.parse(null, "branches");
+
+        assertTrue(fieldSet.isAll());
+    }
+
+    @Test
+    void shouldIncludeBranchesWithSelectedFields() {
+        BankFieldSet fieldSet = BankFieldSet.parse("name", "branches");
+
+        assertEquals(new BankResponseDTO(null, "Bank 1", null, branches), fieldSet.select(bank));
+    }
+
+    @Test
+    void shouldSelectAllBankFieldsWhenOnlyFieldsIsBlank() {
+        BankFieldSet fieldSet = BankFieldSet.parse("", null);
+
+        assertEquals(Set.of("id", "name", "type"), fieldSet.fields());
+        assertFalse(fieldSet.branches());
+    }
+
+    @Test
+    void shouldBuildStableKey() {
+        assertEquals("id.type", BankFieldSet.parse("type,id", null).key());
+        assertEquals("name+branches", BankFieldSet.parse("name", "branches").key());
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        assertThrows(IllegalArgumentException.class, () -> BankFieldSet.parse("id,branches", null));
+    }
+
+    @Test
+    void shouldRejectUnknownInclude() {
+        assertThrows(IllegalArgumentException.class, () -> BankFieldSet.parse(null, "owners"));
+    }
+}
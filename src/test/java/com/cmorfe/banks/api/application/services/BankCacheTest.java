@@ -0,0 +1,87 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BankCacheTest {
+    private static final Long ID = 1L;
+    private static final Instant VERSION = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private BankRepository bankRepository;
+
+    private BankCache bankCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final VersionedBank bank = new VersionedBank(
+            new BankResponseDTO(ID, "Bank 1", BankType.PUBLIC, List.of()), VERSION);
+
+    @BeforeEach
+    void setUp() {
+        bankCache = new BankCache(new ConcurrentMapCacheManager(BankService.BANKS_CACHE), bankRepository);
+    }
+
+    @Test
+    void shouldKeepABankWhoseVersionIsStillCommitted() {
+        when(bankRepository.findUpdatedAtById(ID)).thenReturn(Optional.of(VERSION));
+
+        assertEquals(bank, bankCache.get(ID, this::load));
+        assertEquals(bank, bankCache.get(ID, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldDropABankChangedWhileLoading() {
+        when(bankRepository.findUpdatedAtById(ID)).thenReturn(Optional.of(VERSION.plusSeconds(1)));
+
+        assertEquals(bank, bankCache.get(ID, this::load));
+        bankCache.get(ID, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldDropABankDeletedWhileLoading() {
+        when(bankRepository.findUpdatedAtById(ID)).thenReturn(Optional.empty());
+
+        bankCache.get(ID, this::load);
+        bankCache.get(ID, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldEvictOnBankChanged() {
+        when(bankRepository.findUpdatedAtById(ID)).thenReturn(Optional.of(VERSION));
+
+        bankCache.get(ID, this::load);
+        bankCache.onBankChanged(new BankChangedEvent(ID));
+        bankCache.get(ID, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private VersionedBank load() {
+        loads.incrementAndGet();
+
+        return bank;
+    }
+}
@@ -0,0 +1,206 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBank;
+import static com.cmorfe.banks.api.util.TestUtils.createBankSummary;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankNameIndexTest {
+    private static final String BANK_1_NAME = "Bank 1";
+    private static final String BANK_2_NAME = "Bank 2";
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @InjectMocks
+    private BankNameIndex bankNameIndex;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.now();
+    }
+
+    @Nested
+    class LoadTests {
+        @Test
+        void testLoad() {
+            when(bankRepository.findAllSummariesBy()).thenReturn(List.of(
+                    createBankSummary(createBank(1L, BANK_1_NAME, BankType.PUBLIC, now)),
+                    createBankSummary(createBank(2L, BANK_2_NAME, BankType.PRIVATE, now))));
+
+            bankNameIndex.load();
+
+            when(bankRepository.findIdByName(BANK_2_NAME)).thenReturn(Optional.of(2L));
+
+            assertEquals(2, bankNameIndex.size());
+            assertThrows(ConflictException.class, () -> bankNameIndex.checkAvailable(BANK_2_NAME, null));
+        }
+
+        @Test
+        void testLoadDropsNamesMissingFromTheDatabase() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+
+            when(bankRepository.findAllSummariesBy()).thenReturn(List.of());
+
+            bankNameIndex.load();
+
+            assertEquals(0, bankNameIndex.size());
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, null));
+        }
+    }
+
+    @Nested
+    class CheckAvailableTests {
+        @Test
+        void testNameOfAnotherBank() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+
+            when(bankRepository.findIdByName(BANK_1_NAME)).thenReturn(Optional.of(1L));
+
+            ConflictException exception = assertThrows(ConflictException.class,
+                    () -> bankNameIndex.checkAvailable(BANK_1_NAME, 2L));
+
+            assertEquals(BankNameIndex.BANK_NAME_TAKEN + BANK_1_NAME, exception.getMessage());
+        }
+
+        @Test
+        void testNameOfTheSameBank() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, 1L));
+        }
+
+        @Test
+        void testUnknownName() {
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, null));
+
+            verify(bankRepository, never()).findIdByName(BANK_1_NAME);
+        }
+
+        @Test
+        void testStaleNameFromRenamesCommittedOutOfOrderIsReleased() {
+            // The rename with the later timestamp commits first, so the index keeps the name the bank no longer has
+            List<TransactionSynchronization> laterRename = inTransaction(
+                    () -> bankNameIndex.putAfterCommit(1L, BANK_2_NAME, now.plusSeconds(1)));
+            List<TransactionSynchronization> earlierRename = inTransaction(
+                    () -> bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now));
+
+            commit(laterRename);
+            commit(earlierRename);
+
+            when(bankRepository.findIdByName(BANK_2_NAME)).thenReturn(Optional.empty());
+
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_2_NAME, 2L));
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_2_NAME, 2L));
+
+            assertEquals(0, bankNameIndex.size());
+            verify(bankRepository, times(1)).findIdByName(BANK_2_NAME);
+        }
+    }
+
+    @Nested
+    class WriteTests {
+        @Test
+        void testRenameReleasesTheOldName() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+            bankNameIndex.putAfterCommit(1L, BANK_2_NAME, now.plusSeconds(1));
+
+            when(bankRepository.findIdByName(BANK_2_NAME)).thenReturn(Optional.of(1L));
+
+            assertEquals(1, bankNameIndex.size());
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, null));
+            assertThrows(ConflictException.class, () -> bankNameIndex.checkAvailable(BANK_2_NAME, null));
+        }
+
+        @Test
+        void testOlderWriteIsIgnored() {
+            bankNameIndex.putAfterCommit(1L, BANK_2_NAME, now);
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now.minusSeconds(1));
+
+            when(bankRepository.findIdByName(BANK_2_NAME)).thenReturn(Optional.of(1L));
+
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, null));
+            assertThrows(ConflictException.class, () -> bankNameIndex.checkAvailable(BANK_2_NAME, null));
+        }
+
+        @Test
+        void testRemoveReleasesTheName() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+            bankNameIndex.removeAfterCommit(1L);
+
+            assertEquals(0, bankNameIndex.size());
+            assertDoesNotThrow(() -> bankNameIndex.checkAvailable(BANK_1_NAME, null));
+        }
+
+        @Test
+        void testRemoveLeavesNoTombstoneWithoutWritesInFlight() {
+            bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now);
+            bankNameIndex.removeAfterCommit(1L);
+
+            assertEquals(0, bankNameIndex.entryCount());
+        }
+
+        @Test
+        void testWriteCompletingAfterRemoveIsIgnored() {
+            List<TransactionSynchronization> update = inTransaction(() -> bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now));
+            List<TransactionSynchronization> delete = inTransaction(() -> bankNameIndex.removeAfterCommit(1L));
+
+            commit(delete);
+
+            assertEquals(1, bankNameIndex.entryCount());
+
+            commit(update);
+
+            assertEquals(0, bankNameIndex.size());
+            assertEquals(0, bankNameIndex.entryCount());
+        }
+
+        @Test
+        void testRolledBackWriteReleasesTheTombstone() {
+            List<TransactionSynchronization> update = inTransaction(() -> bankNameIndex.putAfterCommit(1L, BANK_1_NAME, now));
+            List<TransactionSynchronization> delete = inTransaction(() -> bankNameIndex.removeAfterCommit(1L));
+
+            commit(delete);
+            update.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertEquals(0, bankNameIndex.entryCount());
+        }
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Runnable write) {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            write.run();
+
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,113 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.model.Bank;
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.cmorfe.banks.api.application.services.BankService.BANKS_CACHE;
+import static com.cmorfe.banks.api.util.TestUtils.createBank;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cache_test")
+class BankServiceCacheTest {
+    private static final String BANK_NAME = "Bank 1";
+    private static final String UPDATED_BANK_NAME = "Updated Bank";
+
+    @MockBean
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BankNameIndex bankNameIndex;
+
+    private final Long id = 1L;
+
+    private Bank bank;
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(cacheManager.getCache(BANKS_CACHE)).clear();
+
+        bankNameIndex.load();
+
+        bank = createBank(id, BANK_NAME, BankType.PUBLIC, Instant.now());
+    }
+
+    @Test
+    void getByIdShouldReadTheDatabaseOnlyOnce() {
+        when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+        when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+
+        bankService.getById(id);
+        bankService.getById(id);
+
+        verify(bankRepository, times(1)).findWithBranchesById(id);
+    }
+
+    @Test
+    void getByIdShouldCacheTheVersionWithTheBank() {
+        when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+        when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+
+        bankService.getById(id);
+
+        assertEquals(bank.getUpdatedAt(), bankService.getById(id).version());
+    }
+
+    @Test
+    void getByIdShouldNotCacheABankChangedWhileLoading() {
+        when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+        when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt().plusSeconds(1)));
+
+        bankService.getById(id);
+        bankService.getById(id);
+
+        verify(bankRepository, times(2)).findWithBranchesById(id);
+    }
+
+    @Test
+    void updateShouldEvictTheCachedBank() {
+        Bank updatedBank = createBank(id, UPDATED_BANK_NAME, BankType.PUBLIC, Instant.now());
+
+        when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+        when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+        when(bankRepository.save(any(Bank.class))).thenReturn(updatedBank);
+
+        bankService.getById(id);
+        bankService.update(id, createBankRequestDTO(updatedBank));
+
+        assertEquals(UPDATED_BANK_NAME, bankService.getById(id).bank().getName());
+        verify(bankRepository, times(3)).findWithBranchesById(id);
+    }
+
+    @Test
+    void deleteShouldEvictTheCachedBank() {
+        when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+        when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+        when(bankRepository.deleteBankById(id)).thenReturn(1);
+
+        bankService.getById(id);
+        bankService.delete(id);
+        bankService.getById(id);
+
+        verify(bankRepository, times(2)).findWithBranchesById(id);
+    }
+}
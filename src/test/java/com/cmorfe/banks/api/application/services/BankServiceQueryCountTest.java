@@ -0,0 +1,363 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.pagination.BankSort;
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.model.Branch;
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankPageResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_count_test",
+        "banks.branch-bulk.threshold=" + BankServiceQueryCountTest.BULK_BRANCH_THRESHOLD,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class BankServiceQueryCountTest {
+    private static final int BRANCHES_PER_BANK = 3;
+    private static final int LARGE_BRANCH_COUNT = 500;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int ID_ALLOCATION_SIZE = 50;
+    static final int BULK_BRANCH_THRESHOLD = 400;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankNameIndex bankNameIndex;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bankRepository.deleteAll();
+
+        bankNameIndex.load();
+    }
+
+    private List<Long> createBanks(int bankCount) {
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < bankCount; i++) {
+            ids.add(bankService.create(createBankRequestDTO("Bank " + i, i * BRANCHES_PER_BANK, BRANCHES_PER_BANK)).getId());
+        }
+
+        statistics.clear();
+
+        return ids;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void getAllShouldIssueOneStatementWhateverTheNumberOfBanks(int bankCount) {
+        createBanks(bankCount);
+
+        List<BankResponseDTO> banks = bankService.getAll();
+
+        assertEquals(bankCount, banks.size());
+        banks.forEach(bank -> assertEquals(BRANCHES_PER_BANK, bank.getBranches().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void getAllSummariesShouldNotLoadBranches(int bankCount) {
+        createBanks(bankCount);
+
+        List<BankResponseDTO> banks = bankService.getAllSummaries();
+
+        assertEquals(bankCount, banks.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void getSummaryByIdShouldNotLoadBranches() {
+        List<Long> ids = createBanks(5);
+
+        BankResponseDTO bank = bankService.getSummaryById(ids.getLast()).bank();
+
+        assertEquals(ids.getLast(), bank.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void getByIdShouldIssueTwoStatementsWhateverTheNumberOfBanks(int bankCount) {
+        List<Long> ids = createBanks(bankCount);
+
+        cacheManager.getCache(BankService.BANKS_CACHE).clear();
+
+        VersionedBank bank = bankService.getById(ids.getLast());
+
+        assertEquals(BRANCHES_PER_BANK, bank.bank().getBranches().size());
+        // The bank with its branches, then the version check before it stays cached
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+
+        assertEquals(bank, bankService.getById(ids.getLast()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void notModifiedGetByIdShouldOnlyReadTheVersion() throws Exception {
+        Long id = createBanks(1).getFirst();
+
+        String eTag = mockMvc.perform(get("/api/banks/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        cacheManager.getCache(BankService.BANKS_CACHE).clear();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/banks/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        bankService.getById(id);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/banks/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void streamAllShouldIssueOneStatementWhateverTheNumberOfBanks(int bankCount) {
+        createBanks(bankCount);
+
+        List<BankResponseDTO> banks = new ArrayList<>();
+
+        bankService.streamAll(banks::add);
+
+        assertEquals(bankCount, banks.size());
+        banks.forEach(bank -> assertEquals(BRANCHES_PER_BANK, bank.getBranches().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void getPageShouldBatchBranchLoading(int bankCount) {
+        createBanks(bankCount);
+
+        BankPageResponseDTO page = bankService.getPage(bankCount, null, BankSort.ID);
+
+        assertEquals(bankCount, page.getBanks().size());
+        page.getBanks().forEach(bank -> assertEquals(BRANCHES_PER_BANK, bank.getBranches().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createShouldBatchBranchInserts() {
+        statistics.clear();
+
+        BankResponseDTO bank = bankService.create(createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT));
+
+        int batches = LARGE_BRANCH_COUNT / JDBC_BATCH_SIZE;
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(LARGE_BRANCH_COUNT, bank.getBranches().size());
+        assertTrue(statements <= 2L * batches + 10,
+                "Expected batched inserts and pooled sequence calls but got " + statements + " statements");
+    }
+
+    @Test
+    void patchBranchesShouldOnlyTouchAffectedRows() {
+        Long id = bankService.create(createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT)).getId();
+
+        statistics.clear();
+
+        String added = branchCode(LARGE_BRANCH_COUNT);
+        String changed = branchCode(1);
+        String removed = branchCode(2);
+
+        bankService.patchBranches(id, new BranchPatchRequestDTO(
+                List.of(new BranchRequestDTO(added, "New address", "New phone")),
+                List.of(new BranchRequestDTO(changed, "Changed address", "Changed phone")),
+                List.of(removed)));
+
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 5,
+                "Expected one statement per operation but got " + statistics.getPrepareStatementCount());
+
+        List<BranchResponseDTO> branches = bankService.getById(id).bank().getBranches();
+
+        assertEquals(LARGE_BRANCH_COUNT, branches.size());
+        assertTrue(branches.stream().anyMatch(branch -> branch.getCode().equals(added)));
+        assertFalse(branches.stream().anyMatch(branch -> branch.getCode().equals(removed)));
+        assertTrue(branches.stream().anyMatch(branch -> branch.getCode().equals(changed)
+                && branch.getAddress().equals("Changed address")));
+    }
+
+    @Test
+    void updateAboveThresholdShouldReplaceBranchesWithSetBasedStatements() {
+        Long id = bankService.create(createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT)).getId();
+
+        statistics.clear();
+
+        // Keeps the first 100 branches and replaces the other 400 with new codes
+        int kept = 100;
+
+        BankRequestDTO replacement = createBankRequestDTO("Large bank", LARGE_BRANCH_COUNT - kept, LARGE_BRANCH_COUNT);
+
+        BankResponseDTO bank = bankService.update(id, replacement);
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(LARGE_BRANCH_COUNT, bank.getBranches().size());
+        assertTrue(bank.getBranches().stream().anyMatch(branch -> branch.getCode().equals(branchCode(LARGE_BRANCH_COUNT - kept))));
+        assertFalse(bank.getBranches().stream().anyMatch(branch -> branch.getCode().equals(branchCode(0))));
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        // The delete and upserts go through JDBC, so only the bank read, update and reload are counted here,
+        // plus one sequence call per allocation block of new ids
+        long idBlocks = (LARGE_BRANCH_COUNT - kept + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE + 1;
+        assertTrue(statements <= 4 + idBlocks, "Expected no per-branch statements but got " + statements);
+    }
+
+    @Test
+    void bulkUpdateShouldAllocateIdsFromThePooledGenerator() {
+        BankResponseDTO created = bankService.create(createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT));
+
+        Set<Long> originalIds = created.getBranches().stream()
+                .map(BranchResponseDTO::getId)
+                .collect(Collectors.toSet());
+
+        int kept = 100;
+
+        BankRequestDTO replacement = createBankRequestDTO("Large bank", LARGE_BRANCH_COUNT - kept, LARGE_BRANCH_COUNT);
+
+        LongSummaryStatistics newIds = bankService.update(created.getId(), replacement).getBranches().stream()
+                .mapToLong(BranchResponseDTO::getId)
+                .filter(branchId -> !originalIds.contains(branchId))
+                .summaryStatistics();
+
+        assertEquals(LARGE_BRANCH_COUNT - kept, newIds.getCount());
+        // One value per row, not one allocation block per row
+        assertTrue(newIds.getMax() - newIds.getMin() < LARGE_BRANCH_COUNT - kept + ID_ALLOCATION_SIZE,
+                "New ids spread over " + (newIds.getMax() - newIds.getMin()));
+
+        Long otherId = bankService.create(createBankRequestDTO("Other bank", 2 * LARGE_BRANCH_COUNT, 1)).getId();
+
+        assertTrue(bankService.getById(otherId).bank().getBranches().getFirst().getId() > newIds.getMax());
+    }
+
+    @Test
+    void bulkUpdateShouldRejectCodesOfAnotherBank() {
+        bankService.create(createBankRequestDTO("Other bank", 0, 1));
+
+        Long id = bankService.create(createBankRequestDTO("Large bank", 1, LARGE_BRANCH_COUNT)).getId();
+
+        BankRequestDTO replacement = createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT);
+
+        assertThrows(ConflictException.class, () -> bankService.update(id, replacement));
+        List<Branch> branches = bankRepository.findWithBranchesById(id).orElseThrow().getBranches();
+
+        assertEquals(LARGE_BRANCH_COUNT, branches.size());
+        assertTrue(branches.stream().noneMatch(branch -> branch.getCode().equals(branchCode(0))));
+    }
+
+    @Test
+    void createWithTakenNameShouldBeRejectedWithOnlyTheNameLookup() {
+        bankService.create(createBankRequestDTO("Bank", 0, BRANCHES_PER_BANK));
+
+        statistics.clear();
+
+        BankRequestDTO duplicate = createBankRequestDTO("Bank", BRANCHES_PER_BANK, BRANCHES_PER_BANK);
+
+        assertThrows(ConflictException.class, () -> bankService.create(duplicate));
+        // The index hit is confirmed by one select; no insert is attempted
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void deleteShouldReleaseTheBankName() {
+        Long id = bankService.create(createBankRequestDTO("Bank", 0, BRANCHES_PER_BANK)).getId();
+
+        bankService.delete(id);
+
+        BankResponseDTO bank = bankService.create(createBankRequestDTO("Bank", 0, BRANCHES_PER_BANK));
+
+        assertEquals("Bank", bank.getName());
+    }
+
+    @Test
+    void deleteShouldIssueOneStatementWhateverTheNumberOfBranches() {
+        Long id = bankService.create(createBankRequestDTO("Large bank", 0, LARGE_BRANCH_COUNT)).getId();
+
+        statistics.clear();
+
+        bankService.delete(id);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertTrue(bankRepository.findById(id).isEmpty());
+        assertTrue(branchRepository.findLookupsByBankId(id).isEmpty());
+    }
+}
@@ -1,36 +1,74 @@
 package com.cmorfe.banks.api.application.services;
 
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.application.pagination.BankCursor;
+import com.cmorfe.banks.api.application.pagination.BankSort;
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
 import com.cmorfe.banks.api.domain.model.Bank;
 import com.cmorfe.banks.api.domain.model.BankType;
 import com.cmorfe.banks.api.domain.model.Branch;
 import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankPageResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
-import jakarta.persistence.EntityNotFoundException;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.serialization.BankJsonFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static com.cmorfe.banks.api.util.TestUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,13 +79,33 @@ class BankServiceTest {
     private static final String UPDATED_BANK_NAME = "Updated Bank";
     private static final String BANK_1_NAME = "Bank 1";
     private static final String BANK_2_NAME = "Bank 2";
+    private static final int BULK_BRANCH_THRESHOLD = 1000;
+    private static final String BANK_NAME_TAKEN = "A bank with that name already exists: ";
 
     @Mock
     private BankRepository bankRepository;
 
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BankNameIndex bankNameIndex;
+
+    @Mock
+    private BankCache bankCache;
+
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private BankService bankService;
 
@@ -74,6 +132,8 @@ class BankServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(bankService, "bulkBranchThreshold", BULK_BRANCH_THRESHOLD);
+
         id = 1L;
 
         now = Instant.now();
@@ -102,7 +162,7 @@ class BankServiceTest {
     class GetTests {
         @Test
         void testGetAll() {
-            when(bankRepository.findAll()).thenReturn(banks);
+            when(bankRepository.findAllWithBranches()).thenReturn(banks);
 
             List<BankResponseDTO> actualResponse = bankService.getAll();
 
@@ -111,23 +171,158 @@ class BankServiceTest {
 
         @Test
         void testGetById() {
-            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            loadThroughTheCache();
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
 
-            BankResponseDTO actualResponse = bankService.getById(id);
+            VersionedBank actualResponse = bankService.getById(id);
 
-            assertEquals(bankResponseDTO, actualResponse);
+            assertEquals(new VersionedBank(bankResponseDTO, bank.getUpdatedAt()), actualResponse);
+        }
+
+        @Test
+        void testGetVersionOfACachedBank() {
+            when(bankCache.cachedVersion(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+
+            assertEquals(bank.getUpdatedAt(), bankService.getVersion(id));
+
+            verify(bankRepository, never()).findUpdatedAtById(id);
+        }
+
+        @Test
+        void testGetVersionOfAnUncachedBank() {
+            when(bankCache.cachedVersion(id)).thenReturn(Optional.empty());
+            when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.of(bank.getUpdatedAt()));
+
+            assertEquals(bank.getUpdatedAt(), bankService.getVersion(id));
+        }
+
+        @Test
+        void testGetVersionNotFound() {
+            when(bankCache.cachedVersion(id)).thenReturn(Optional.empty());
+            when(bankRepository.findUpdatedAtById(id)).thenReturn(Optional.empty());
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bankService.getVersion(id));
+
+            assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
+        }
+
+        @Test
+        void testGetAllSummaries() {
+            when(bankRepository.findAllSummariesBy()).thenReturn(List.of(createBankSummary(bank)));
+
+            List<BankResponseDTO> actualResponse = bankService.getAllSummaries();
+
+            assertEquals(List.of(new BankResponseDTO(bank.getId(), bank.getName(), bank.getType(), null)), actualResponse);
+        }
+
+        @Test
+        void testGetSummaryById() {
+            when(bankRepository.findSummaryById(id)).thenReturn(Optional.of(createBankSummary(bank)));
+
+            VersionedBank actualResponse = bankService.getSummaryById(id);
+
+            assertEquals(new VersionedBank(new BankResponseDTO(bank.getId(), bank.getName(), bank.getType(), null),
+                    bank.getUpdatedAt()), actualResponse);
+        }
+
+        @Test
+        void testGetSummaryByIdNotFound() {
+            when(bankRepository.findSummaryById(id)).thenReturn(Optional.empty());
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bankService.getSummaryById(id));
+
+            assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
         }
 
         @Test
         void testGetByIdNotFound() {
-            when(bankRepository.findById(id)).thenReturn(Optional.empty());
+            loadThroughTheCache();
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.empty());
 
-            EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> bankService.getById(id));
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bankService.getById(id));
 
             assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
         }
     }
 
+    @Nested
+    class StreamTests {
+        @Test
+        void testStreamAll() {
+            when(bankRepository.streamAllWithBranches()).thenReturn(banks.stream());
+
+            List<BankResponseDTO> streamed = new ArrayList<>();
+
+            bankService.streamAll(streamed::add);
+
+            assertEquals(banksResponseDTO, streamed);
+            banks.forEach(streamedBank -> verify(entityManager).detach(streamedBank));
+        }
+
+        @Test
+        void testStreamAllClosesTheStream() {
+            boolean[] closed = {false};
+
+            when(bankRepository.streamAllWithBranches()).thenReturn(Stream.of(bank).onClose(() -> closed[0] = true));
+
+            bankService.streamAll(streamedBank -> {
+            });
+
+            assertTrue(closed[0]);
+        }
+    }
+
+    @Nested
+    class PageTests {
+        @Test
+        void testGetFirstPageById() {
+            when(bankRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(banks);
+
+            BankPageResponseDTO actualResponse = bankService.getPage(1, null, BankSort.ID);
+
+            assertEquals(List.of(bankResponseDTO), actualResponse.getBanks());
+            assertEquals(id, BankCursor.decode(actualResponse.getNextCursor(), BankSort.ID).idValue());
+        }
+
+        @Test
+        void testGetLastPageById() {
+            String after = BankCursor.of(BankSort.ID, bank).encode();
+
+            when(bankRepository.findByIdGreaterThanOrderByIdAsc(id, Limit.of(3))).thenReturn(banks);
+
+            BankPageResponseDTO actualResponse = bankService.getPage(2, after, BankSort.ID);
+
+            assertEquals(banksResponseDTO, actualResponse.getBanks());
+            assertNull(actualResponse.getNextCursor());
+        }
+
+        @Test
+        void testGetPageByName() {
+            String after = BankCursor.of(BankSort.NAME, bank).encode();
+
+            when(bankRepository.findByNameGreaterThanOrderByNameAsc(BANK_1_NAME, Limit.of(2))).thenReturn(banks);
+
+            BankPageResponseDTO actualResponse = bankService.getPage(1, after, BankSort.NAME);
+
+            assertEquals(List.of(bankResponseDTO), actualResponse.getBanks());
+            assertEquals(BANK_1_NAME, BankCursor.decode(actualResponse.getNextCursor(), BankSort.NAME).value());
+        }
+
+        @Test
+        void testGetPageWithInvalidLimit() {
+            assertThrows(IllegalArgumentException.class, () -> bankService.getPage(0, null, BankSort.ID));
+            assertThrows(IllegalArgumentException.class,
+                    () -> bankService.getPage(BankService.MAX_PAGE_SIZE + 1, null, BankSort.ID));
+        }
+
+        @Test
+        void testGetPageWithCursorOfAnotherSort() {
+            String after = BankCursor.of(BankSort.NAME, bank).encode();
+
+            assertThrows(IllegalArgumentException.class, () -> bankService.getPage(1, after, BankSort.ID));
+        }
+    }
+
     @Nested
     class CreateTests {
         @Test
@@ -141,6 +336,31 @@ class BankServiceTest {
             BankResponseDTO actualResponse = bankService.create(newBankRequestDTO);
 
             assertEquals(bankResponseDTO, actualResponse);
+            verify(bankRepository).flush();
+            verify(bankNameIndex).putAfterCommit(id, BANK_1_NAME, bank.getUpdatedAt());
+            verify(eventPublisher).publishEvent(new BankChangedEvent(id));
+        }
+
+        @Test
+        void testCreateWithTakenName() {
+            doThrow(new ConflictException(BANK_NAME_TAKEN + BANK_1_NAME)).when(bankNameIndex).checkAvailable(BANK_1_NAME, null);
+
+            ConflictException exception = assertThrows(ConflictException.class,
+                    () -> bankService.create(createBankRequestDTO(bank)));
+
+            assertEquals(BANK_NAME_TAKEN + BANK_1_NAME, exception.getMessage());
+            verify(bankRepository, never()).save(any(Bank.class));
+        }
+
+        @Test
+        void testCreateTimesEachPhase() {
+            doReturn(bank).when(bankRepository).save(any(Bank.class));
+
+            bankService.create(createBankRequestDTO(bank));
+
+            assertEquals(1, phaseCount("create", "request-mapping"));
+            assertEquals(1, phaseCount("create", "persistence"));
+            assertEquals(1, phaseCount("create", "response-mapping"));
         }
     }
 
@@ -148,20 +368,122 @@ class BankServiceTest {
     class UpdateTests {
         @Test
         void testUpdate() {
-            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
 
             when(bankRepository.save(any(Bank.class))).thenReturn(updatedBank);
 
             BankResponseDTO actualResponse = bankService.update(id, updatedBankRequestDTO);
 
             assertEquals(updatedBankResponseDTO, actualResponse);
+            assertEquals(1, phaseCount("update", "persistence"));
+            verify(bankNameIndex).checkAvailable(UPDATED_BANK_NAME, id);
+            verify(bankNameIndex).putAfterCommit(id, UPDATED_BANK_NAME, updatedBank.getUpdatedAt());
+            verify(eventPublisher).publishEvent(new BankChangedEvent(id));
         }
 
         @Test
-        void testUpdateNotFound() {
+        void testUpdateWithTakenName() {
+            doThrow(new ConflictException(BANK_NAME_TAKEN + UPDATED_BANK_NAME)).when(bankNameIndex).checkAvailable(UPDATED_BANK_NAME, id);
+            when(bankRepository.existsById(id)).thenReturn(true);
+
+            assertThrows(ConflictException.class, () -> bankService.update(id, updatedBankRequestDTO));
+
+            verify(bankRepository, never()).findWithBranchesById(id);
+        }
+
+        @Test
+        void testUpdateMissingBankWithTakenName() {
+            doThrow(new ConflictException(BANK_NAME_TAKEN + UPDATED_BANK_NAME)).when(bankNameIndex).checkAvailable(UPDATED_BANK_NAME, id);
+            when(bankRepository.existsById(id)).thenReturn(false);
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> bankService.update(id, updatedBankRequestDTO));
+
+            assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
+        }
+
+        @Test
+        void testUpdateBumpsUpdatedAt() {
+            Instant previousVersion = now.minusSeconds(60);
+
+            bank.setUpdatedAt(previousVersion);
+
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
+
+            when(bankRepository.save(any(Bank.class))).thenReturn(updatedBank);
+
+            bankService.update(id, createBankRequestDTO(bank));
+
+            assertTrue(bank.getUpdatedAt().isAfter(previousVersion));
+        }
+
+        @Test
+        void testUpdateLargeBankUsesBulkPath() {
+            BankRequestDTO largeRequest = createBankRequestDTO(UPDATED_BANK_NAME, 0, BULK_BRANCH_THRESHOLD);
+
+            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(updatedBank));
+
+            BankResponseDTO actualResponse = bankService.update(id, largeRequest);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Branch>> branches = ArgumentCaptor.forClass(List.class);
+
+            verify(branchRepository).replaceBranches(eq(id), branches.capture(), eq(bank.getUpdatedAt()));
+            assertEquals(BULK_BRANCH_THRESHOLD, branches.getValue().size());
+            assertEquals(UPDATED_BANK_NAME, bank.getName());
+            verify(bankRepository).saveAndFlush(bank);
+            verify(entityManager).detach(bank);
+            assertEquals(updatedBankResponseDTO, actualResponse);
+            verify(eventPublisher).publishEvent(new BankChangedEvent(id));
+            verify(branchRepository, never()).countByBankId(id);
+        }
+
+        @Test
+        void testUpdateShrinkingLargeBankUsesBulkPath() {
+            when(branchRepository.countByBankId(id)).thenReturn((long) BULK_BRANCH_THRESHOLD);
+            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(updatedBank));
+
+            bankService.update(id, updatedBankRequestDTO);
+
+            verify(branchRepository).replaceBranches(eq(id), anyList(), any(Instant.class));
+            verify(bankRepository, never()).save(any(Bank.class));
+        }
+
+        @Test
+        void testUpdateLargeBankNotFound() {
+            BankRequestDTO largeRequest = createBankRequestDTO(UPDATED_BANK_NAME, 0, BULK_BRANCH_THRESHOLD);
+
             when(bankRepository.findById(id)).thenReturn(Optional.empty());
 
-            EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> bankService.update(id, largeRequest));
+
+            assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
+            verify(branchRepository, never()).replaceBranches(any(), any(), any());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {2, BULK_BRANCH_THRESHOLD})
+        void testUpdateWithDuplicateCodesIsRejectedOnEitherPath(int threshold) {
+            ReflectionTestUtils.setField(bankService, "bulkBranchThreshold", threshold);
+
+            BankRequestDTO request = createBankRequestDTO(UPDATED_BANK_NAME, 0, 2);
+            request.getBranches().add(request.getBranches().getFirst());
+
+            ConflictException exception = assertThrows(ConflictException.class, () -> bankService.update(id, request));
+
+            assertEquals("Branch code appears more than once in the request: " + branchCode(0), exception.getMessage());
+            verify(branchRepository, never()).replaceBranches(any(), any(), any());
+            verify(bankRepository, never()).save(any(Bank.class));
+        }
+
+        @Test
+        void testUpdateNotFound() {
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.empty());
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                     () -> bankService.update(id, updatedBankRequestDTO));
 
             assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
@@ -173,7 +495,7 @@ class BankServiceTest {
 
             Bank updateBank = getUpdateBankWithNewBranch(id, BANK_1_NAME, branchId, now);
 
-            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
 
             when(bankRepository.save(any(Bank.class))).thenReturn(updateBank);
 
@@ -189,7 +511,7 @@ class BankServiceTest {
 
             Bank updateData = createBank(id, BANK_1_NAME, BankType.PUBLIC, now);
 
-            when(bankRepository.findById(id)).thenReturn(Optional.of(bank));
+            when(bankRepository.findWithBranchesById(id)).thenReturn(Optional.of(bank));
 
             when(bankRepository.save(any(Bank.class))).thenReturn(updateData);
 
@@ -203,18 +525,116 @@ class BankServiceTest {
     class DeleteTests {
         @Test
         void testDelete() {
-            when(bankRepository.existsById(id)).thenReturn(true);
+            when(bankRepository.deleteBankById(id)).thenReturn(1);
 
             assertDoesNotThrow(() -> bankService.delete(id));
+
+            verify(bankNameIndex).removeAfterCommit(id);
+            verify(eventPublisher).publishEvent(new BankChangedEvent(id));
         }
 
         @Test
         void testDeleteNotFound() {
-            when(bankRepository.existsById(id)).thenReturn(false);
+            when(bankRepository.deleteBankById(id)).thenReturn(0);
 
-            EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> bankService.delete(id));
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bankService.delete(id));
 
             assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
+            verify(bankNameIndex, never()).removeAfterCommit(id);
+        }
+    }
+
+    @Nested
+    class PatchBranchesTests {
+        private final BranchRequestDTO added = new BranchRequestDTO("0002", "Address 2", "Phone 2");
+
+        private final BranchRequestDTO changed = new BranchRequestDTO("0001", "Address 1b", "Phone 1b");
+
+        @Test
+        void testPatchBranches() {
+            when(bankRepository.updateUpdatedAtById(eq(id), any(Instant.class))).thenReturn(1);
+            when(branchRepository.deleteByBankIdAndCodeIn(id, List.of("0003"))).thenReturn(1);
+            when(branchRepository.updateByBankIdAndCode(eq(id), eq("0001"), eq("Address 1b"), eq("Phone 1b"),
+                    any(Instant.class))).thenReturn(1);
+            when(bankRepository.getReferenceById(id)).thenReturn(bank);
+
+            bankService.patchBranches(id, new BranchPatchRequestDTO(List.of(added), List.of(changed), List.of("0003")));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Branch>> saved = ArgumentCaptor.forClass(List.class);
+
+            verify(branchRepository).saveAll(saved.capture());
+            assertEquals(1, saved.getValue().size());
+            assertEquals("0002", saved.getValue().get(0).getCode());
+            assertSame(bank, saved.getValue().get(0).getBank());
+            verify(bankRepository, never()).findWithBranchesById(any());
+            verify(eventPublisher).publishEvent(new BankChangedEvent(id));
+        }
+
+        @Test
+        void testPatchBranchesOnlyRemoves() {
+            when(bankRepository.updateUpdatedAtById(eq(id), any(Instant.class))).thenReturn(1);
+            when(branchRepository.deleteByBankIdAndCodeIn(id, List.of("0001"))).thenReturn(1);
+
+            bankService.patchBranches(id, new BranchPatchRequestDTO(null, null, List.of("0001")));
+
+            verify(branchRepository, never()).saveAll(any());
+            verify(bankRepository, never()).getReferenceById(any());
+        }
+
+        @Test
+        void testPatchBranchesBankNotFound() {
+            when(bankRepository.updateUpdatedAtById(eq(id), any(Instant.class))).thenReturn(0);
+
+            BranchPatchRequestDTO patch = new BranchPatchRequestDTO(List.of(added), null, null);
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> bankService.patchBranches(id, patch));
+
+            assertEquals(BANK_ID_NOT_FOUND + id, exception.getMessage());
+            verify(branchRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void testPatchBranchesUpdateNotFound() {
+            when(bankRepository.updateUpdatedAtById(eq(id), any(Instant.class))).thenReturn(1);
+            when(branchRepository.updateByBankIdAndCode(eq(id), eq("0001"), any(), any(), any())).thenReturn(0);
+
+            BranchPatchRequestDTO patch = new BranchPatchRequestDTO(null, List.of(changed), null);
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> bankService.patchBranches(id, patch));
+
+            assertEquals("Branch 0001 not found in bank with id: " + id, exception.getMessage());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void testPatchBranchesRemoveNotFound() {
+            when(bankRepository.updateUpdatedAtById(eq(id), any(Instant.class))).thenReturn(1);
+            when(branchRepository.deleteByBankIdAndCodeIn(id, List.of("0001", "0009"))).thenReturn(1);
+
+            BranchPatchRequestDTO patch = new BranchPatchRequestDTO(null, null, List.of("0001", "0009"));
+
+            assertThrows(ResourceNotFoundException.class, () -> bankService.patchBranches(id, patch));
+        }
+
+        @Test
+        void testPatchBranchesEmpty() {
+            BranchPatchRequestDTO patch = new BranchPatchRequestDTO(List.of(), null, null);
+
+            assertThrows(IllegalArgumentException.class, () -> bankService.patchBranches(id, patch));
+            verify(bankRepository, never()).updateUpdatedAtById(any(), any());
+        }
+
+        @Test
+        void testPatchBranchesDuplicateCode() {
+            BranchPatchRequestDTO patch = new BranchPatchRequestDTO(null, List.of(changed), List.of("0001"));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> bankService.patchBranches(id, patch));
+
+            assertEquals("Branch code appears more than once in the patch: 0001", exception.getMessage());
         }
     }
 
@@ -227,13 +647,118 @@ class BankServiceTest {
             doReturn(ResponseEntity.ok(banksResponseDTO)).when(restTemplate).exchange(
                     eq(apiUrl),
                     eq(HttpMethod.GET),
-                    isNull(),
+                    eq(BankService.UPSTREAM_REQUEST),
                     ArgumentMatchers.<ParameterizedTypeReference<List<BankResponseDTO>>>any()
             );
 
             List<BankResponseDTO> actualResponse = bankService.consumeGetAll();
 
             assertEquals(banksResponseDTO, actualResponse);
+            assertEquals(1, consumeCalls(false));
+        }
+
+        @Test
+        void testConsumeGetAllPrefersBinaryFormats() {
+            List<MediaType> accept = BankService.UPSTREAM_REQUEST.getHeaders().getAccept();
+
+            assertEquals(List.of("application/x-jackson-smile", "application/cbor;q=0.9", "application/json;q=0.8"),
+                    accept.stream().map(MediaType::toString).toList());
         }
+
+        @Test
+        void testConcurrentConsumeGetAllIsCoalesced() throws Exception {
+            int callers = 10;
+            CountDownLatch release = new CountDownLatch(1);
+
+            doAnswer(invocation -> {
+                release.await();
+
+                return ResponseEntity.ok(banksResponseDTO);
+            }).when(restTemplate).exchange(
+                    eq(banksApiUrl + API_BANKS_PATH),
+                    eq(HttpMethod.GET),
+                    eq(BankService.UPSTREAM_REQUEST),
+                    ArgumentMatchers.<ParameterizedTypeReference<List<BankResponseDTO>>>any()
+            );
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<List<BankResponseDTO>>> responses = new ArrayList<>();
+
+                for (int i = 0; i < callers; i++) {
+                    responses.add(executor.submit(bankService::consumeGetAll));
+                }
+
+                while (consumeCalls(true) < callers - 1) {
+                    Thread.sleep(10);
+                }
+
+                release.countDown();
+
+                for (Future<List<BankResponseDTO>> response : responses) {
+                    assertEquals(banksResponseDTO, response.get(5, TimeUnit.SECONDS));
+                }
+            }
+
+            verify(restTemplate, times(1)).exchange(
+                    eq(banksApiUrl + API_BANKS_PATH),
+                    eq(HttpMethod.GET),
+                    eq(BankService.UPSTREAM_REQUEST),
+                    ArgumentMatchers.<ParameterizedTypeReference<List<BankResponseDTO>>>any()
+            );
+            assertEquals(1, consumeCalls(false));
+        }
+
+        @Test
+        void testStreamUpstreamBanksPassesBodyThrough() {
+            String upstreamBody = "[{\"id\":1,\"name\":\"Bank 1\",\"type\":\"PUBLIC\",\"branches\":[]}]";
+
+            assertEquals(upstreamBody, streamUpstreamBanks(BankJsonFilter.of(null, null), upstreamBody));
+        }
+
+        @Test
+        void testStreamUpstreamBanksFiltersBody() {
+            String upstreamBody = "[{\"id\":1,\"name\":\"Bank 1\",\"type\":\"PUBLIC\",\"branches\":[]}]";
+
+            assertEquals("[{\"id\":1}]", streamUpstreamBanks(BankJsonFilter.of("id", null), upstreamBody));
+        }
+
+        private String streamUpstreamBanks(BankJsonFilter filter, String upstreamBody) {
+            doAnswer(invocation -> {
+                ResponseExtractor<?> extractor = invocation.getArgument(3);
+
+                return extractor.extractData(new MockClientHttpResponse(
+                        upstreamBody.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+            }).when(restTemplate).execute(
+                    eq(banksApiUrl + API_BANKS_PATH),
+                    eq(HttpMethod.GET),
+                    any(RequestCallback.class),
+                    any(ResponseExtractor.class)
+            );
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            bankService.streamUpstreamBanks(filter, output);
+
+            return output.toString(StandardCharsets.UTF_8);
+        }
+
+        private double consumeCalls(boolean coalesced) {
+            return meterRegistry.get(BankService.CONSUME_CALLS_METRIC)
+                    .tag("coalesced", Boolean.toString(coalesced))
+                    .counter()
+                    .count();
+        }
+    }
+
+    private long phaseCount(String operation, String phase) {
+        return meterRegistry.get(PhaseTimers.PHASE_METRIC)
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .timer()
+                .count();
+    }
+
+    private void loadThroughTheCache() {
+        when(bankCache.get(eq(id), any())).thenAnswer(invocation -> invocation.<Supplier<VersionedBank>>getArgument(1).get());
     }
-}
\ No newline at end of file
+}
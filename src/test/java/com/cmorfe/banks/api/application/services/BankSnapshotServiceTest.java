@@ -0,0 +1,108 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBank;
+import static com.cmorfe.banks.api.util.TestUtils.createBankResponseDTO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSnapshotServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private BankService bankService;
+
+    private BankSnapshotService bankSnapshotService;
+
+    private List<BankResponseDTO> banks;
+
+    @BeforeEach
+    void setUp() {
+        bankSnapshotService = new BankSnapshotService(bankService, objectMapper);
+
+        banks = List.of(createBankResponseDTO(createBank(1L, "Bank 1", BankType.PUBLIC, Instant.now())));
+    }
+
+    @Test
+    void shouldSerializeTheBankListOnce() throws IOException {
+        when(bankService.getAll()).thenReturn(banks);
+
+        BankSnapshot first = bankSnapshotService.getSnapshot();
+        BankSnapshot second = bankSnapshotService.getSnapshot();
+
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(banks), first.json());
+        verify(bankService, times(1)).getAll();
+    }
+
+    @Test
+    void shouldGzipTheSerializedList() throws IOException {
+        when(bankService.getAll()).thenReturn(banks);
+
+        BankSnapshot snapshot = bankSnapshotService.getSnapshot();
+
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            assertArrayEquals(snapshot.json(), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldTranscodeTheSerializedListOncePerFormat() throws IOException {
+        when(bankService.getAll()).thenReturn(banks);
+
+        byte[] cbor = bankSnapshotService.getBinarySnapshot(BinaryFormat.CBOR);
+
+        ObjectMapper cborMapper = new ObjectMapper(BinaryFormat.CBOR.newFactory());
+
+        assertSame(cbor, bankSnapshotService.getBinarySnapshot(BinaryFormat.CBOR));
+        assertNotSame(cbor, bankSnapshotService.getBinarySnapshot(BinaryFormat.SMILE));
+        assertEquals(objectMapper.readTree(bankSnapshotService.getSnapshot().json()), cborMapper.readTree(cbor));
+        verify(bankService, times(1)).getAll();
+    }
+
+    @Test
+    void shouldTranscodeAgainAfterAChange() {
+        when(bankService.getAll()).thenReturn(banks).thenReturn(List.of());
+
+        byte[] first = bankSnapshotService.getBinarySnapshot(BinaryFormat.SMILE);
+
+        bankSnapshotService.onBankChanged(new BankChangedEvent(1L));
+
+        assertFalse(Arrays.equals(first, bankSnapshotService.getBinarySnapshot(BinaryFormat.SMILE)));
+    }
+
+    @Test
+    void shouldRegenerateAfterAChange() {
+        when(bankService.getAll()).thenReturn(banks).thenReturn(List.of());
+
+        BankSnapshot first = bankSnapshotService.getSnapshot();
+
+        bankSnapshotService.onBankChanged(new BankChangedEvent(1L));
+
+        BankSnapshot second = bankSnapshotService.getSnapshot();
+
+        assertTrue(second.version() > first.version());
+        assertEquals(bankSnapshotService.getVersion(), second.version());
+        assertArrayEquals("[]".getBytes(), second.json());
+        verify(bankService, times(2)).getAll();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:branch_index_test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "banks.branch-index.enabled=true"
+})
+class BranchCodeIndexIntegrationTest {
+    private static final int BRANCH_COUNT = 3;
+
+    @Autowired
+    private BranchService branchService;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private BankResponseDTO bank;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        bank = bankService.create(createBankRequestDTO("Bank", 0, BRANCH_COUNT));
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bankService.delete(bank.getId());
+    }
+
+    @Test
+    void createdBranchesShouldBeServedWithoutQueries() {
+        BranchLookupResponseDTO branch = branchService.getByCode(branchCode(1));
+
+        List<BranchLookupResponseDTO> branches = branchService.getByCodes(List.of(branchCode(0), branchCode(2)));
+
+        assertEquals(bank.getId(), branch.getBankId());
+        assertEquals(2, branches.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateShouldAddAndRemoveIndexedBranches() {
+        bankService.update(bank.getId(), createBankRequestDTO("Bank", 1, BRANCH_COUNT));
+
+        assertThrows(ResourceNotFoundException.class, () -> branchService.getByCode(branchCode(0)));
+        assertEquals(bank.getId(), branchService.getByCode(branchCode(BRANCH_COUNT)).getBankId());
+    }
+
+    @Test
+    void deletedBankShouldNotBeServedFromTheIndex() {
+        BankResponseDTO other = bankService.create(createBankRequestDTO("Other bank", 10, 1));
+
+        bankService.delete(other.getId());
+
+        assertThrows(ResourceNotFoundException.class, () -> branchService.getByCode(branchCode(10)));
+    }
+}
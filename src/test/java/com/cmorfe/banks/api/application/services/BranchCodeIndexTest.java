@@ -0,0 +1,90 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.application.events.BankChangedEvent;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBranchLookup;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BranchCodeIndexTest {
+    private static final Long BANK_A = 1L;
+    private static final Long BANK_B = 2L;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @InjectMocks
+    private BranchCodeIndex branchCodeIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(branchRepository.streamAllLookups()).thenReturn(Stream.of(
+                createBranchLookup(1L, "0001", BANK_A),
+                createBranchLookup(2L, "0002", BANK_A),
+                createBranchLookup(3L, "0003", BANK_B)
+        ));
+
+        branchCodeIndex.load();
+    }
+
+    @Test
+    void testLoadIndexesEveryBranch() {
+        assertEquals(3, branchCodeIndex.size());
+        assertEquals(Optional.of(BANK_B), branchCodeIndex.get("0003").map(BranchLookupResponseDTO::getBankId));
+    }
+
+    @Test
+    void testBankChangeAddsUpdatesAndRemovesBranches() {
+        when(branchRepository.findLookupsByBankId(BANK_A)).thenReturn(List.of(
+                createBranchLookup(1L, "0001", BANK_A),
+                createBranchLookup(4L, "0004", BANK_A)
+        ));
+
+        branchCodeIndex.onBankChanged(new BankChangedEvent(BANK_A));
+
+        assertTrue(branchCodeIndex.get("0001").isPresent());
+        assertTrue(branchCodeIndex.get("0002").isEmpty());
+        assertEquals(Optional.of(4L), branchCodeIndex.get("0004").map(BranchLookupResponseDTO::getId));
+        assertEquals(3, branchCodeIndex.size());
+    }
+
+    @Test
+    void testDeletedBankIsRemoved() {
+        when(branchRepository.findLookupsByBankId(BANK_B)).thenReturn(List.of());
+
+        branchCodeIndex.onBankChanged(new BankChangedEvent(BANK_B));
+
+        assertTrue(branchCodeIndex.get("0003").isEmpty());
+        assertEquals(2, branchCodeIndex.size());
+    }
+
+    @Test
+    void testBranchCodeMovedToAnotherBankSurvivesStaleRefresh() {
+        when(branchRepository.findLookupsByBankId(BANK_B)).thenReturn(List.of(
+                createBranchLookup(3L, "0003", BANK_B),
+                createBranchLookup(5L, "0002", BANK_B)
+        ));
+        when(branchRepository.findLookupsByBankId(BANK_A)).thenReturn(List.of(
+                createBranchLookup(1L, "0001", BANK_A)
+        ));
+
+        branchCodeIndex.onBankChanged(new BankChangedEvent(BANK_B));
+        branchCodeIndex.onBankChanged(new BankChangedEvent(BANK_A));
+
+        assertEquals(Optional.of(BANK_B), branchCodeIndex.get("0002").map(BranchLookupResponseDTO::getBankId));
+    }
+}
@@ -0,0 +1,80 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.repository.BankRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:branch_query_count_test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BranchServiceQueryCountTest {
+    private static final int BRANCH_COUNT = 3;
+
+    @Autowired
+    private BranchService branchService;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankNameIndex bankNameIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private BankResponseDTO bank;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        bank = bankService.create(createBankRequestDTO("Bank", 0, BRANCH_COUNT));
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bankRepository.deleteAll();
+
+        bankNameIndex.load();
+    }
+
+    @Test
+    void getByCodeShouldIssueOneStatement() {
+        BranchLookupResponseDTO branch = branchService.getByCode(branchCode(1));
+
+        assertEquals(branchCode(1), branch.getCode());
+        assertEquals(bank.getId(), branch.getBankId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getByCodesShouldIssueOneStatement() {
+        List<BranchLookupResponseDTO> branches = branchService.getByCodes(List.of(branchCode(2), branchCode(0)));
+
+        assertEquals(List.of(branchCode(2), branchCode(0)),
+                branches.stream().map(BranchLookupResponseDTO::getCode).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,148 @@
+package com.cmorfe.banks.api.application.services;
+
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
+import com.cmorfe.banks.api.domain.repository.BranchRepository;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import com.cmorfe.banks.api.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBranchLookup;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BranchServiceTest {
+    private static final String CODE_1 = "0001";
+    private static final String CODE_2 = "0002";
+    private static final String UNKNOWN_CODE = "ZZZZ";
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchCodeIndex branchCodeIndex;
+
+    private BranchLookupResponseDTO branch1;
+
+    private BranchLookupResponseDTO branch2;
+
+    @BeforeEach
+    void setUp() {
+        branch1 = new BranchLookupResponseDTO(1L, CODE_1, "Address " + CODE_1, "11-1234-5678", 10L);
+
+        branch2 = new BranchLookupResponseDTO(2L, CODE_2, "Address " + CODE_2, "11-1234-5678", 20L);
+    }
+
+    @Nested
+    class RepositoryTests {
+        private BranchService branchService;
+
+        @BeforeEach
+        void setUp() {
+            branchService = new BranchService(branchRepository, Optional.empty());
+        }
+
+        @Test
+        void testGetByCode() {
+            when(branchRepository.findLookupByCode(CODE_1)).thenReturn(Optional.of(createBranchLookup(1L, CODE_1, 10L)));
+
+            assertEquals(branch1, branchService.getByCode(CODE_1));
+        }
+
+        @Test
+        void testGetByCodeNotFound() {
+            when(branchRepository.findLookupByCode(UNKNOWN_CODE)).thenReturn(Optional.empty());
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> branchService.getByCode(UNKNOWN_CODE));
+
+            assertEquals("Branch not found with code: " + UNKNOWN_CODE, exception.getMessage());
+        }
+
+        @Test
+        void testGetByCodesKeepsRequestOrderAndSkipsUnknownCodes() {
+            when(branchRepository.findLookupsByCodeIn(Set.of(CODE_2, UNKNOWN_CODE, CODE_1))).thenReturn(List.of(
+                    createBranchLookup(1L, CODE_1, 10L),
+                    createBranchLookup(2L, CODE_2, 20L)
+            ));
+
+            List<BranchLookupResponseDTO> branches = branchService.getByCodes(List.of(CODE_2, UNKNOWN_CODE, CODE_1, CODE_2));
+
+            assertEquals(List.of(branch2, branch1), branches);
+        }
+
+        @Test
+        void testGetByCodesRejectsEmptyCodes() {
+            assertThrows(IllegalArgumentException.class, () -> branchService.getByCodes(List.of()));
+        }
+
+        @Test
+        void testGetByCodesRejectsTooManyCodes() {
+            List<String> codes = IntStream.rangeClosed(0, BranchService.MAX_CODES)
+                    .mapToObj(TestUtils::branchCode)
+                    .toList();
+
+            assertThrows(IllegalArgumentException.class, () -> branchService.getByCodes(codes));
+
+            verify(branchRepository, never()).findLookupsByCodeIn(any());
+        }
+    }
+
+    @Nested
+    class IndexTests {
+        private BranchService branchService;
+
+        @BeforeEach
+        void setUp() {
+            branchService = new BranchService(branchRepository, Optional.of(branchCodeIndex));
+        }
+
+        @Test
+        void testGetByCodeFromIndex() {
+            when(branchCodeIndex.get(CODE_1)).thenReturn(Optional.of(branch1));
+
+            assertEquals(branch1, branchService.getByCode(CODE_1));
+
+            verify(branchRepository, never()).findLookupByCode(anyString());
+        }
+
+        @Test
+        void testGetByCodeFallsBackToRepository() {
+            when(branchCodeIndex.get(CODE_1)).thenReturn(Optional.empty());
+            when(branchRepository.findLookupByCode(CODE_1)).thenReturn(Optional.of(createBranchLookup(1L, CODE_1, 10L)));
+
+            assertEquals(branch1, branchService.getByCode(CODE_1));
+        }
+
+        @Test
+        void testGetByCodesFromIndex() {
+            when(branchCodeIndex.get(CODE_1)).thenReturn(Optional.of(branch1));
+            when(branchCodeIndex.get(CODE_2)).thenReturn(Optional.of(branch2));
+
+            assertEquals(List.of(branch2, branch1), branchService.getByCodes(List.of(CODE_2, CODE_1)));
+
+            verify(branchRepository, never()).findLookupsByCodeIn(any());
+        }
+
+        @Test
+        void testGetByCodesLooksUpCodesMissingFromIndex() {
+            when(branchCodeIndex.get(CODE_1)).thenReturn(Optional.of(branch1));
+            when(branchCodeIndex.get(CODE_2)).thenReturn(Optional.empty());
+            when(branchRepository.findLookupsByCodeIn(Set.of(CODE_2))).thenReturn(List.of(createBranchLookup(2L, CODE_2, 20L)));
+
+            assertEquals(List.of(branch1, branch2), branchService.getByCodes(List.of(CODE_1, CODE_2)));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.cmorfe.banks.api.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConflictExceptionTest {
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        ConflictException exception = new ConflictException("Branch code already belongs to another bank: 0001");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Branch code already belongs to another bank: 0001", exception.getMessage());
+    }
+}
@@ -0,0 +1,16 @@
+package com.cmorfe.banks.api.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResourceNotFoundExceptionTest {
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        ResourceNotFoundException exception = new ResourceNotFoundException("Bank not found with id: 1");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Bank not found with id: 1", exception.getMessage());
+    }
+}
@@ -0,0 +1,176 @@
+package com.cmorfe.banks.api.domain.repository;
+
+import com.cmorfe.banks.api.application.services.BankNameIndex;
+import com.cmorfe.banks.api.application.services.BankService;
+import com.cmorfe.banks.api.util.SqlCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs H2 {@code EXPLAIN} on the SQL behind the hot repository queries and fails when one of them
+ * falls back to scanning a table it should reach through an index.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan_test",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.cmorfe.banks.api.util.SqlCapture"
+})
+class QueryPlanTest {
+    private static final String BANKS = "BANKS";
+    private static final String BRANCHES = "BRANCHES";
+    private static final String IDX_BRANCHES_BANK_ID = "IDX_BRANCHES_BANK_ID";
+    private static final int BANK_COUNT = 20;
+    private static final int BRANCHES_PER_BANK = 5;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankNameIndex bankNameIndex;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long bankId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < BANK_COUNT; i++) {
+            bankId = bankService.create(createBankRequestDTO("Bank " + i, i * BRANCHES_PER_BANK, BRANCHES_PER_BANK)).getId();
+        }
+
+        SqlCapture.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bankRepository.deleteAll();
+
+        bankNameIndex.load();
+    }
+
+    @Nested
+    class BankRepositoryTests {
+        @Test
+        void findWithBranchesByIdShouldUseIndexes() {
+            String plan = explain(() -> bankRepository.findWithBranchesById(bankId), bankId);
+
+            assertNoTableScan(plan, BANKS);
+            assertUsesIndex(plan, IDX_BRANCHES_BANK_ID);
+        }
+
+        @Test
+        void findAllWithBranchesShouldJoinBranchesThroughIndex() {
+            String plan = explain(() -> bankRepository.findAllWithBranches());
+
+            assertUsesIndex(plan, IDX_BRANCHES_BANK_ID);
+            assertNoTableScan(plan, BRANCHES);
+        }
+
+        @Test
+        void streamAllWithBranchesShouldJoinBranchesThroughIndex() {
+            String plan = explain(() -> {
+                try (Stream<?> banks = bankRepository.streamAllWithBranches()) {
+                    banks.forEach(bank -> {
+                    });
+                }
+            });
+
+            assertUsesIndex(plan, IDX_BRANCHES_BANK_ID);
+        }
+
+        @Test
+        void findUpdatedAtByIdShouldUsePrimaryKey() {
+            assertNoTableScan(explain(() -> bankRepository.findUpdatedAtById(bankId), bankId), BANKS);
+        }
+
+        @Test
+        void findSummaryByIdShouldUsePrimaryKey() {
+            assertNoTableScan(explain(() -> bankRepository.findSummaryById(bankId), bankId), BANKS);
+        }
+
+        @Test
+        void idKeysetPageShouldUsePrimaryKey() {
+            String plan = explain(() -> bankRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10)), 0L, 10);
+
+            assertNoTableScan(plan, BANKS);
+        }
+
+        @Test
+        void nameKeysetPageShouldUseNameIndex() {
+            String plan = explain(() -> bankRepository.findByNameGreaterThanOrderByNameAsc("", Limit.of(10)), "", 10);
+
+            assertNoTableScan(plan, BANKS);
+        }
+    }
+
+    @Nested
+    class BranchRepositoryTests {
+        @Test
+        void findLookupByCodeShouldUseCodeIndex() {
+            String code = branchCode(0);
+
+            assertNoTableScan(explain(() -> branchRepository.findLookupByCode(code), code), BRANCHES);
+        }
+
+        @Test
+        void findLookupsByCodeInShouldUseCodeIndex() {
+            Set<String> codes = Set.of(branchCode(0));
+
+            assertNoTableScan(explain(() -> branchRepository.findLookupsByCodeIn(codes), branchCode(0)), BRANCHES);
+        }
+
+        @Test
+        void findLookupsByBankIdShouldUseBankIdIndex() {
+            assertUsesIndex(explain(() -> branchRepository.findLookupsByBankId(bankId), bankId), IDX_BRANCHES_BANK_ID);
+        }
+    }
+
+    private String explain(Runnable repositoryCall, Object... parameters) {
+        transactionTemplate.executeWithoutResult(status -> repositoryCall.run());
+
+        List<String> statements = SqlCapture.statements().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+
+        assertEquals(1, statements.size(), () -> "Expected a single query but got " + statements);
+
+        return explainSql(statements.getFirst(), parameters);
+    }
+
+    private String explainSql(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertTrue(plan.contains("PUBLIC." + index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private static void assertNoTableScan(String plan, String table) {
+        assertFalse(plan.contains("PUBLIC." + table + ".tableScan"), () -> "Unexpected scan of " + table + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,180 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppConfigTest {
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_TOTAL = 20;
+    private static final int MAX_PER_ROUTE = 5;
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    private final AppConfig appConfig = new AppConfig();
+
+    private final HttpClientProperties properties = new HttpClientProperties();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Duration upstreamDelay = Duration.ZERO;
+
+    private HttpServer upstream;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private CloseableHttpClient httpClient;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        upstream.createContext("/api/banks", this::handle);
+        upstream.setExecutor(executor);
+        upstream.start();
+
+        url = "http://localhost:" + upstream.getAddress().getPort() + "/api/banks";
+
+        properties.setMaxTotal(MAX_TOTAL);
+        properties.setMaxPerRoute(MAX_PER_ROUTE);
+        properties.setPoolTimeout(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+
+        upstream.stop(0);
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentRequestsAreBoundedByRoutePool() throws Exception {
+        upstreamDelay = Duration.ofMillis(50);
+
+        RestTemplate restTemplate = createRestTemplate();
+
+        List<Future<String>> responses = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(executor.submit(() -> restTemplate.getForObject(url, String.class)));
+        }
+
+        for (Future<String> response : responses) {
+            assertEquals("[]", response.get(10, TimeUnit.SECONDS));
+        }
+
+        assertTrue(maxInFlight.get() <= MAX_PER_ROUTE);
+        assertTrue(clientPorts.size() <= MAX_PER_ROUTE);
+    }
+
+    @Test
+    void testConnectionsAreReused() {
+        RestTemplate restTemplate = createRestTemplate();
+
+        for (int i = 0; i < 20; i++) {
+            restTemplate.getForObject(url, String.class);
+        }
+
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    void testSlowUpstreamTimesOut() {
+        upstreamDelay = Duration.ofSeconds(2);
+        properties.setResponseTimeout(Duration.ofMillis(200));
+
+        RestTemplate restTemplate = createRestTemplate();
+
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url, String.class));
+    }
+
+    @Test
+    void testExhaustedPoolFailsFast() throws InterruptedException {
+        upstreamDelay = Duration.ofSeconds(2);
+        properties.setMaxPerRoute(1);
+        properties.setPoolTimeout(Duration.ofMillis(100));
+
+        RestTemplate restTemplate = createRestTemplate();
+
+        executor.submit(() -> restTemplate.getForObject(url, String.class));
+
+        while (inFlight.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url, String.class));
+    }
+
+    @Test
+    void testPoolMetricsAreExposed() {
+        createRestTemplate();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        appConfig.httpClientPoolMetrics(connectionManager).bindTo(meterRegistry);
+
+        assertEquals(MAX_TOTAL, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", AppConfig.POOL_NAME)
+                .gauge()
+                .value());
+    }
+
+    private RestTemplate createRestTemplate() {
+        connectionManager = appConfig.connectionManager(properties);
+
+        httpClient = appConfig.httpClient(connectionManager, properties);
+
+        return appConfig.restTemplate(httpClient);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+
+        try {
+            Thread.sleep(upstreamDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, BODY.length);
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(BODY);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.cmorfe.banks.api.infrastructure.configuration;
 
+import com.cmorfe.banks.api.domain.exception.ConflictException;
+import com.cmorfe.banks.api.domain.exception.ResourceNotFoundException;
 import com.cmorfe.banks.api.infrastructure.error.ErrorResponse;
 import com.cmorfe.banks.api.infrastructure.error.ValidationErrorResponse;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -7,9 +9,14 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import jakarta.persistence.EntityNotFoundException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,11 +27,19 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static com.cmorfe.banks.api.infrastructure.configuration.GlobalExceptionHandler.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -139,6 +154,17 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    class HandleResourceNotFoundExceptionTests {
+        @Test
+        void shouldHandleResourceNotFoundException() {
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler
+                    .handleResourceNotFoundException(new ResourceNotFoundException(NOT_FOUND));
+
+            assertErrorResponse(response, HttpStatus.NOT_FOUND, NOT_FOUND, NOT_FOUND);
+        }
+    }
+
     @Nested
     class HandleNoResourceFoundExceptionTests {
         @Test
@@ -260,6 +286,69 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    class HandleConflictExceptionTests {
+        @Test
+        void shouldHandleConflictException() {
+            ConflictException exception = new ConflictException(BANK_NAME_ALREADY_EXISTS);
+
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleConflictException(exception);
+
+            assertErrorResponse(response, HttpStatus.CONFLICT, CONFLICT, BANK_NAME_ALREADY_EXISTS);
+        }
+    }
+
+    @Nested
+    class HandleResourceAccessExceptionTests {
+        private static final String DETAILS = "I/O error on GET request";
+
+        static Stream<Arguments> timeouts() {
+            return Stream.of(
+                    Arguments.of(new SocketTimeoutException("Read timed out")),
+                    Arguments.of(new ConnectTimeoutException("Connect timed out")),
+                    Arguments.of(new ConnectionRequestTimeoutException("Timeout waiting for connection"))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("timeouts")
+        void shouldMapTimeoutsToGatewayTimeout(IOException cause) {
+            ResourceAccessException exception = new ResourceAccessException(DETAILS, cause);
+
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceAccessException(exception);
+
+            assertErrorResponse(response, HttpStatus.GATEWAY_TIMEOUT, UPSTREAM_TIMEOUT, DETAILS);
+        }
+
+        static Stream<Arguments> unreachable() {
+            return Stream.of(
+                    Arguments.of(new ConnectException("Connection refused")),
+                    Arguments.of(new UnknownHostException("upstream.example")),
+                    Arguments.of(new NoRouteToHostException("No route to host"))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("unreachable")
+        void shouldMapAnUnreachableUpstreamToServiceUnavailable(IOException cause) {
+            ResourceAccessException exception = new ResourceAccessException(DETAILS, cause);
+
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceAccessException(exception);
+
+            assertErrorResponse(response, HttpStatus.SERVICE_UNAVAILABLE, UPSTREAM_UNAVAILABLE, DETAILS);
+        }
+
+        @Test
+        void shouldMapOtherFailuresToBadGateway() {
+            ResourceAccessException exception = new ResourceAccessException(DETAILS,
+                    new SocketException("Connection reset"));
+
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceAccessException(exception);
+
+            assertErrorResponse(response, HttpStatus.BAD_GATEWAY, UPSTREAM_ERROR, DETAILS);
+        }
+    }
+
     @Nested
     class HandleGeneralExceptionsTests {
         @Test
@@ -0,0 +1,34 @@
+package com.cmorfe.banks.api.infrastructure.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogRateLimiterTest {
+    private final AtomicLong now = new AtomicLong(10_000);
+
+    private final LogRateLimiter limiter = new LogRateLimiter(2, now::get);
+
+    @Test
+    void shouldLetThroughOnlyTheConfiguredEventsPerSecond() {
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryAcquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryAcquire());
+    }
+
+    @Test
+    void shouldReportSuppressedEventsInTheNextWindow() {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        now.addAndGet(1000);
+
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+    }
+}
@@ -1,11 +1,19 @@
 package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
 
+import com.cmorfe.banks.api.application.pagination.BankSort;
 import com.cmorfe.banks.api.application.services.BankService;
+import com.cmorfe.banks.api.application.services.BankSnapshot;
+import com.cmorfe.banks.api.application.services.BankSnapshotService;
+import com.cmorfe.banks.api.application.services.VersionedBank;
 import com.cmorfe.banks.api.domain.model.Bank;
 import com.cmorfe.banks.api.domain.model.BankType;
 import com.cmorfe.banks.api.infrastructure.configuration.GlobalExceptionHandler;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankPageResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
 import com.cmorfe.banks.api.util.JsonResultMatchers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,22 +21,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.cmorfe.banks.api.util.TestUtils.*;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(controllers = BankController.class)
@@ -41,10 +58,23 @@ class BankControllerTest {
     private static final String BANK_2_NAME = "Bank 2";
     private static final String API_BANKS = "/api/banks";
     private static final String API_BANKS_ID = "/api/banks/{id}";
+    private static final String API_BANKS_STREAM = "/api/banks/stream";
+    private static final String API_BANKS_CONSUME_STREAM = "/api/banks/consume/stream";
+    private static final Instant VERSION = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String BANK_ETAG = "\"1-1704067200.0\"";
+    private static final String INSTANCE_ID = "instance";
+    private static final long SNAPSHOT_VERSION = 7L;
+    private static final String LIST_ETAG = "\"banks-instance-7\"";
+    private static final String NEXT_CURSOR = "SUQ6Mg";
 
     @MockBean
     private BankService bankService;
 
+    @MockBean
+    private BankSnapshotService bankSnapshotService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private MockMvc mockMvc;
 
     private Long id;
@@ -81,37 +111,302 @@ class BankControllerTest {
 
         banks = List.of(bankResponseDTO, bankResponseDTO2);
 
-        mockMvc = MockMvcBuilders.standaloneSetup(new BankController(bankService))
+        mockMvc = MockMvcBuilders.standaloneSetup(new BankController(bankService, bankSnapshotService, objectMapper))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
     }
 
+    private BankSnapshot createSnapshot() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(banks);
+
+        return new BankSnapshot(1L, json, new byte[]{1, 2, 3});
+    }
+
     @Nested
     class GetTests {
         @Test
         void testGetAll() throws Exception {
-            when(bankService.getAll()).thenReturn(banks);
+            when(bankSnapshotService.getSnapshot()).thenReturn(createSnapshot());
 
             mockMvc.perform(get(API_BANKS))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(JsonResultMatchers.jsonEquals(banks));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"br, gzip;q=0.8", "gzip", "GZIP", "gzip; q=0.001", "br, *;q=0.5", "*;q=0, gzip"})
+        void testGetAllGzipped(String acceptEncoding) throws Exception {
+            BankSnapshot snapshot = createSnapshot();
+
+            when(bankSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+            mockMvc.perform(get(API_BANKS).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(content().bytes(snapshot.gzip()));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"gzip;q=0", "gzip;q=0.0", "gzip;q=0.000", "gzip; q=0", "gzip ;q = 0",
+                "br", "*;q=0", "gzip;q=0, *", "gzip;q=abc"})
+        void testGetAllWithGzipRefused(String acceptEncoding) throws Exception {
+            when(bankSnapshotService.getSnapshot()).thenReturn(createSnapshot());
+
+            mockMvc.perform(get(API_BANKS).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(JsonResultMatchers.jsonEquals(banks));
+        }
+
+        @Test
+        void testGetAllAsCbor() throws Exception {
+            byte[] cbor = BinaryFormat.CBOR.transcode(createSnapshot().json());
+
+            when(bankSnapshotService.getInstanceId()).thenReturn(INSTANCE_ID);
+            when(bankSnapshotService.getVersion()).thenReturn(SNAPSHOT_VERSION);
+            when(bankSnapshotService.getBinarySnapshot(BinaryFormat.CBOR)).thenReturn(cbor);
+
+            mockMvc.perform(get(API_BANKS)
+                            .header(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"banks-instance-7-cbor\""))
+                    .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().bytes(cbor));
+
+            verify(bankSnapshotService, never()).getSnapshot();
+        }
+
+        @Test
+        void testGetAllWithWildcardAcceptIsJson() throws Exception {
+            when(bankSnapshotService.getSnapshot()).thenReturn(createSnapshot());
+
+            mockMvc.perform(get(API_BANKS).header(HttpHeaders.ACCEPT, "application/cbor, */*"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(JsonResultMatchers.jsonEquals(banks));
+
+            verify(bankSnapshotService, never()).getBinarySnapshot(any());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void testStream() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<BankResponseDTO> consumer = invocation.getArgument(0);
+
+                banks.forEach(consumer);
+
+                return null;
+            }).when(bankService).streamAll(any(Consumer.class));
+
+            MvcResult result = mockMvc.perform(get(API_BANKS_STREAM))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String expected = objectMapper.writeValueAsString(banks.get(0)) + "\n"
+                    + objectMapper.writeValueAsString(banks.get(1));
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(expected));
+        }
+
+        @Test
+        void testGetPage() throws Exception {
+            BankPageResponseDTO page = new BankPageResponseDTO(banks, NEXT_CURSOR);
+
+            when(bankService.getPage(2, NEXT_CURSOR, BankSort.NAME)).thenReturn(page);
+
+            mockMvc.perform(get(API_BANKS)
+                            .param("limit", "2")
+                            .param("after", NEXT_CURSOR)
+                            .param("sort", "name"))
+                    .andExpect(status().isOk())
+                    .andExpect(JsonResultMatchers.jsonEquals(page));
+        }
+
+        @Test
+        void testGetPageWithInvalidSort() throws Exception {
+            mockMvc.perform(get(API_BANKS)
+                            .param("limit", "2")
+                            .param("sort", "type"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void testGetAllNotModified() throws Exception {
+            when(bankSnapshotService.getInstanceId()).thenReturn(INSTANCE_ID);
+            when(bankSnapshotService.getVersion()).thenReturn(SNAPSHOT_VERSION);
+
+            mockMvc.perform(get(API_BANKS).header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, LIST_ETAG))
+                    .andExpect(content().bytes(new byte[0]));
+
+            verify(bankSnapshotService, never()).getSnapshot();
+        }
+
+        @Test
+        void testGetAllWithStaleETag() throws Exception {
+            when(bankSnapshotService.getInstanceId()).thenReturn(INSTANCE_ID);
+            when(bankSnapshotService.getVersion()).thenReturn(SNAPSHOT_VERSION + 1);
+            when(bankSnapshotService.getSnapshot()).thenReturn(createSnapshot());
+
+            mockMvc.perform(get(API_BANKS).header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG))
                     .andExpect(status().isOk())
                     .andExpect(JsonResultMatchers.jsonEquals(banks));
         }
 
         @Test
         void testGetById() throws Exception {
-            when(bankService.getById(id)).thenReturn(bankResponseDTO);
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+            when(bankService.getById(id)).thenReturn(new VersionedBank(bankResponseDTO, VERSION));
 
             mockMvc.perform(get(API_BANKS_ID, id))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, BANK_ETAG))
+                    .andExpect(JsonResultMatchers.jsonEquals(bankResponseDTO));
+        }
+
+        @Test
+        void testGetAllWithFields() throws Exception {
+            List<BankResponseDTO> summaries = banks.stream()
+                    .map(bank -> new BankResponseDTO(bank.getId(), bank.getName(), bank.getType(), null))
+                    .toList();
+
+            when(bankSnapshotService.getInstanceId()).thenReturn(INSTANCE_ID);
+            when(bankSnapshotService.getVersion()).thenReturn(SNAPSHOT_VERSION);
+            when(bankService.getAllSummaries()).thenReturn(summaries);
+
+            mockMvc.perform(get(API_BANKS).param("fields", "id,name"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"banks-instance-7-id.name\""))
+                    .andExpect(jsonPath("$[0].id").value(banks.get(0).getId()))
+                    .andExpect(jsonPath("$[0].name").value(banks.get(0).getName()))
+                    .andExpect(jsonPath("$[0].type").doesNotExist())
+                    .andExpect(jsonPath("$[0].branches").doesNotExist());
+
+            verify(bankService, never()).getAll();
+            verify(bankSnapshotService, never()).getSnapshot();
+        }
+
+        @Test
+        void testGetAllWithFieldsAsSmile() throws Exception {
+            List<BankResponseDTO> summaries = banks.stream()
+                    .map(bank -> new BankResponseDTO(bank.getId(), bank.getName(), bank.getType(), null))
+                    .toList();
+
+            when(bankSnapshotService.getInstanceId()).thenReturn(INSTANCE_ID);
+            when(bankSnapshotService.getVersion()).thenReturn(SNAPSHOT_VERSION);
+            when(bankService.getAllSummaries()).thenReturn(summaries);
+
+            MvcResult result = mockMvc.perform(get(API_BANKS).param("fields", "id")
+                            .header(HttpHeaders.ACCEPT, BinaryFormat.SMILE.getMediaType().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(BinaryFormat.SMILE.getMediaType()))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"banks-instance-7-id-smile\""))
+                    .andReturn();
+
+            ObjectMapper smileMapper = new ObjectMapper(BinaryFormat.SMILE.newFactory());
+
+            BankResponseDTO[] actual = smileMapper.readValue(result.getResponse().getContentAsByteArray(),
+                    BankResponseDTO[].class);
+
+            assertEquals(banks.stream().map(BankResponseDTO::getId).toList(),
+                    Arrays.stream(actual).map(BankResponseDTO::getId).toList());
+        }
+
+        @Test
+        void testGetAllWithInvalidField() throws Exception {
+            mockMvc.perform(get(API_BANKS).param("fields", "iban"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void testGetByIdWithFields() throws Exception {
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+            when(bankService.getSummaryById(id)).thenReturn(new VersionedBank(
+                    new BankResponseDTO(id, bankResponseDTO.getName(), bankResponseDTO.getType(), null), VERSION));
+
+            mockMvc.perform(get(API_BANKS_ID, id).param("fields", "name"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1-1704067200.0-name\""))
+                    .andExpect(jsonPath("$.name").value(bankResponseDTO.getName()))
+                    .andExpect(jsonPath("$.id").doesNotExist())
+                    .andExpect(jsonPath("$.branches").doesNotExist());
+
+            verify(bankService, never()).getById(id);
+        }
+
+        @Test
+        void testGetByIdWithIncludedBranches() throws Exception {
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+            when(bankService.getById(id)).thenReturn(new VersionedBank(bankResponseDTO, VERSION));
+
+            mockMvc.perform(get(API_BANKS_ID, id).param("fields", "id").param("include", "branches"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(id))
+                    .andExpect(jsonPath("$.name").doesNotExist())
+                    .andExpect(jsonPath("$.branches").isArray());
+        }
+
+        @Test
+        void testGetByIdAsSmile() throws Exception {
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+            when(bankService.getById(id)).thenReturn(new VersionedBank(bankResponseDTO, VERSION));
+
+            MvcResult result = mockMvc.perform(get(API_BANKS_ID, id)
+                            .header(HttpHeaders.ACCEPT, BinaryFormat.SMILE.getMediaType().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(BinaryFormat.SMILE.getMediaType()))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1-1704067200.0-smile\""))
+                    .andReturn();
+
+            ObjectMapper smileMapper = new ObjectMapper(BinaryFormat.SMILE.newFactory());
+
+            assertEquals(bankResponseDTO,
+                    smileMapper.readValue(result.getResponse().getContentAsByteArray(), BankResponseDTO.class));
+        }
+
+        @Test
+        void testGetByIdNotModified() throws Exception {
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+
+            mockMvc.perform(get(API_BANKS_ID, id).header(HttpHeaders.IF_NONE_MATCH, BANK_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+
+            verify(bankService, never()).getById(id);
+            verify(bankService, never()).getSummaryById(id);
+        }
+
+        @Test
+        void testGetByIdChangedAfterTheVersionProbeIsTaggedWithTheLoadedVersion() throws Exception {
+            Instant loadedVersion = VERSION.plusSeconds(1);
+
+            when(bankService.getVersion(id)).thenReturn(VERSION);
+            when(bankService.getById(id)).thenReturn(new VersionedBank(bankResponseDTO, loadedVersion));
+
+            mockMvc.perform(get(API_BANKS_ID, id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().stringValues(HttpHeaders.ETAG, "\"1-1704067201.0\""))
                     .andExpect(JsonResultMatchers.jsonEquals(bankResponseDTO));
         }
 
         @Test
         void testGetByIdNotFound() throws Exception {
-            when(bankService.getById(id)).thenThrow(new EntityNotFoundException(BANK_ID_NOT_FOUND + id));
+            when(bankService.getVersion(id)).thenThrow(new EntityNotFoundException(BANK_ID_NOT_FOUND + id));
 
             mockMvc.perform(get(API_BANKS_ID, id))
                     .andExpect(status().isNotFound());
+
+            verify(bankService, never()).getById(id);
         }
     }
 
@@ -128,6 +423,24 @@ class BankControllerTest {
                     .andExpect(JsonResultMatchers.jsonEquals(bankResponseDTO));
         }
 
+        @Test
+        void testCreateFromCbor() throws Exception {
+            ObjectMapper cborMapper = new ObjectMapper(BinaryFormat.CBOR.newFactory());
+
+            when(bankService.create(bankRequestDTO)).thenReturn(bankResponseDTO);
+
+            MvcResult result = mockMvc.perform(post(API_BANKS)
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .content(cborMapper.writeValueAsBytes(bankRequestDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            assertEquals(bankResponseDTO,
+                    cborMapper.readValue(result.getResponse().getContentAsByteArray(), BankResponseDTO.class));
+        }
+
         @Test
         void testCreateWithBadRequest() throws Exception {
             BankRequestDTO invalidRequestDTO = new BankRequestDTO();
@@ -166,6 +479,49 @@ class BankControllerTest {
         }
     }
 
+    @Nested
+    class PatchBranchesTests {
+        private static final String API_BANKS_ID_BRANCHES = "/api/banks/{id}/branches";
+
+        @Test
+        void testPatchBranches() throws Exception {
+            BranchPatchRequestDTO branchPatch = new BranchPatchRequestDTO(null,
+                    List.of(new BranchRequestDTO("3420", "456 Branch Avenue", "11-7654-3210")), List.of("3421"));
+
+            mockMvc.perform(patch(API_BANKS_ID_BRANCHES, id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(branchPatch)))
+                    .andExpect(status().isNoContent());
+
+            verify(bankService).patchBranches(id, branchPatch);
+        }
+
+        @Test
+        void testPatchBranchesInvalidBranch() throws Exception {
+            BranchPatchRequestDTO branchPatch = new BranchPatchRequestDTO(
+                    List.of(new BranchRequestDTO("34201", "", "11-7654-3210")), null, null);
+
+            mockMvc.perform(patch(API_BANKS_ID_BRANCHES, id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(branchPatch)))
+                    .andExpect(status().isBadRequest());
+
+            verify(bankService, never()).patchBranches(any(), any());
+        }
+
+        @Test
+        void testPatchBranchesNotFound() throws Exception {
+            BranchPatchRequestDTO branchPatch = new BranchPatchRequestDTO(null, null, List.of("3421"));
+
+            doThrow(new EntityNotFoundException(BANK_ID_NOT_FOUND + id)).when(bankService).patchBranches(id, branchPatch);
+
+            mockMvc.perform(patch(API_BANKS_ID_BRANCHES, id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(branchPatch)))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     class DeleteTests {
         @Test
@@ -190,5 +546,35 @@ class BankControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(JsonResultMatchers.jsonEquals(banks));
         }
+
+        @Test
+        void testConsumeStream() throws Exception {
+            String upstreamBody = objectMapper.writeValueAsString(banks);
+
+            doAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(1);
+
+                outputStream.write(upstreamBody.getBytes(StandardCharsets.UTF_8));
+
+                return null;
+            }).when(bankService).streamUpstreamBanks(any(), any());
+
+            MvcResult result = mockMvc.perform(get(API_BANKS_CONSUME_STREAM).param("fields", "id,name"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(content().string(upstreamBody));
+        }
+
+        @Test
+        void testConsumeStreamInvalidType() throws Exception {
+            mockMvc.perform(get(API_BANKS_CONSUME_STREAM).param("type", "MUTUAL"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bankService, never()).streamUpstreamBanks(any(), any());
+        }
     }
 }
@@ -0,0 +1,82 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.controllers;
+
+import com.cmorfe.banks.api.application.services.BranchService;
+import com.cmorfe.banks.api.infrastructure.configuration.GlobalExceptionHandler;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchLookupResponseDTO;
+import com.cmorfe.banks.api.util.JsonResultMatchers;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest(controllers = BranchController.class)
+@ContextConfiguration(classes = {GlobalExceptionHandler.class, BranchController.class})
+class BranchControllerTest {
+
+    private static final String API_BRANCHES = "/api/branches";
+    private static final String API_BRANCHES_CODE = "/api/branches/{code}";
+    private static final String CODE = "3420";
+
+    @MockBean
+    private BranchService branchService;
+
+    private MockMvc mockMvc;
+
+    private BranchLookupResponseDTO branch;
+
+    @BeforeEach
+    void setUp() {
+        branch = new BranchLookupResponseDTO(1L, CODE, "456 Branch Avenue", "11-7654-3210", 2L);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new BranchController(branchService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testGetByCode() throws Exception {
+        when(branchService.getByCode(CODE)).thenReturn(branch);
+
+        mockMvc.perform(get(API_BRANCHES_CODE, CODE))
+                .andExpect(status().isOk())
+                .andExpect(JsonResultMatchers.jsonEquals(branch));
+    }
+
+    @Test
+    void testGetByCodeNotFound() throws Exception {
+        when(branchService.getByCode(CODE)).thenThrow(new EntityNotFoundException("Branch not found with code: " + CODE));
+
+        mockMvc.perform(get(API_BRANCHES_CODE, CODE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetByCodes() throws Exception {
+        when(branchService.getByCodes(List.of(CODE, "0001"))).thenReturn(List.of(branch));
+
+        mockMvc.perform(get(API_BRANCHES).param("codes", CODE + ",0001"))
+                .andExpect(status().isOk())
+                .andExpect(JsonResultMatchers.jsonEquals(List.of(branch)));
+    }
+
+    @Test
+    void testGetByCodesInvalid() throws Exception {
+        when(branchService.getByCodes(List.of(CODE))).thenThrow(new IllegalArgumentException("Between 1 and 100 codes must be given"));
+
+        mockMvc.perform(get(API_BRANCHES).param("codes", CODE))
+                .andExpect(status().isBadRequest());
+    }
+}
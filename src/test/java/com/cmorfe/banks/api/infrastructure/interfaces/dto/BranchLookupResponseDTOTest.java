@@ -0,0 +1,47 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static com.cmorfe.banks.api.util.TestUtils.*;
+
+public class BranchLookupResponseDTOTest {
+
+    @Test
+    void shouldTestNoArgsConstructor() throws Exception {
+        testNoArgsConstructor(BranchLookupResponseDTO.class);
+    }
+
+    @Test
+    void shouldTestAllArgsConstructor() {
+        BranchLookupResponseDTO dto = new BranchLookupResponseDTO(1L, "3420", "456 Branch Avenue", "11-7654-3210", 2L);
+        testAllArgsConstructor(dto, 1L, "3420", "456 Branch Avenue", "11-7654-3210", 2L);
+    }
+
+    @Test
+    void shouldTestSettersAndGetters() {
+        BranchLookupResponseDTO dto = new BranchLookupResponseDTO();
+        dto.setId(1L);
+        dto.setCode("3420");
+        dto.setAddress("456 Branch Avenue");
+        dto.setPhone("11-7654-3210");
+        dto.setBankId(2L);
+
+        testSettersAndGetters(dto, 1L, "3420", "456 Branch Avenue", "11-7654-3210", 2L);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        class BranchLookupResponseTestDTO extends BranchLookupResponseDTO {
+            public BranchLookupResponseTestDTO(Long id, String code, String address, String phone, Long bankId) {
+                super(id, code, address, phone, bankId);
+            }
+
+            @Override
+            public boolean canEqual(Object obj) {
+                return false;
+            }
+        }
+
+        verifyEqualsAndHashCode(BranchLookupResponseDTO.class, BranchLookupResponseTestDTO.class);
+    }
+}
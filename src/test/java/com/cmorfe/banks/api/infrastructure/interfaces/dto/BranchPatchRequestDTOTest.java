@@ -0,0 +1,50 @@
+package com.cmorfe.banks.api.infrastructure.interfaces.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.cmorfe.banks.api.util.TestUtils.*;
+
+public class BranchPatchRequestDTOTest {
+    private static final List<BranchRequestDTO> ADD = List.of(new BranchRequestDTO("3421", "457 Branch Avenue", "11-7654-3211"));
+    private static final List<BranchRequestDTO> UPDATE = List.of(new BranchRequestDTO("3420", "456 Branch Avenue", "11-7654-3210"));
+    private static final List<String> REMOVE = List.of("3422");
+
+    @Test
+    void shouldTestNoArgsConstructor() throws Exception {
+        testNoArgsConstructor(BranchPatchRequestDTO.class);
+    }
+
+    @Test
+    void shouldTestAllArgsConstructor() {
+        BranchPatchRequestDTO dto = new BranchPatchRequestDTO(ADD, UPDATE, REMOVE);
+        testAllArgsConstructor(dto, ADD, UPDATE, REMOVE);
+    }
+
+    @Test
+    void shouldTestSettersAndGetters() {
+        BranchPatchRequestDTO dto = new BranchPatchRequestDTO();
+        dto.setAdd(ADD);
+        dto.setUpdate(UPDATE);
+        dto.setRemove(REMOVE);
+
+        testSettersAndGetters(dto, ADD, UPDATE, REMOVE);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        class BranchPatchRequestTestDTO extends BranchPatchRequestDTO {
+            public BranchPatchRequestTestDTO(List<BranchRequestDTO> add, List<BranchRequestDTO> update, List<String> remove) {
+                super(add, update, remove);
+            }
+
+            @Override
+            public boolean canEqual(Object obj) {
+                return false;
+            }
+        }
+
+        verifyEqualsAndHashCode(BranchPatchRequestDTO.class, BranchPatchRequestTestDTO.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpBodyTimerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HttpBodyTimer bodyTimer = new HttpBodyTimer(meterRegistry, "json");
+
+    @Test
+    void readShouldTagTheDeclaredType() throws IOException {
+        bodyTimer.read(BankRequestDTO.class, () -> null);
+
+        assertEquals(1, count("deserialization", "BankRequestDTO"));
+    }
+
+    @Test
+    void writeShouldKeepTheElementTypeOfAList() throws IOException {
+        bodyTimer.write(List.of(), new ParameterizedTypeReference<List<BankResponseDTO>>() {
+        }.getType(), () -> {
+        });
+
+        assertEquals(1, count("serialization", "List<BankResponseDTO>"));
+    }
+
+    @Test
+    void writeShouldFallBackToTheRuntimeClassForObject() throws IOException {
+        bodyTimer.write(new BankResponseDTO(), Object.class, () -> {
+        });
+
+        assertEquals(1, count("serialization", "BankResponseDTO"));
+    }
+
+    private long count(String phase, String type) {
+        return meterRegistry.get(TimedJacksonHttpMessageConverter.PHASE_METRIC)
+                .tag("phase", phase)
+                .tag("format", "json")
+                .tag("type", type)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import com.cmorfe.banks.api.infrastructure.serialization.BinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:latency_metrics_test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class LatencyMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createShouldPublishHistogramsForEveryPhase() throws Exception {
+        mockMvc.perform(post("/api/banks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBankRequestDTO("Timed bank", 0, 5))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("banks_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"create\"")))
+                .andExpect(content().string(containsString("banks_http_phase_seconds_bucket{")))
+                .andExpect(content().string(containsString("le=\"0.025\"")))
+                .andExpect(content().string(containsString("phase=\"persistence\"")))
+                .andExpect(content().string(containsString("phase=\"validation\"")))
+                .andExpect(content().string(containsString("phase=\"deserialization\"")))
+                .andExpect(content().string(containsString("phase=\"serialization\"")));
+    }
+
+    @Test
+    void binaryBodiesShouldBeTimedPerFormat() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(BinaryFormat.CBOR.newFactory());
+
+        mockMvc.perform(post("/api/banks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(createBankRequestDTO("Timed CBOR bank", 5, 5))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("format=\"cbor\",phase=\"deserialization\"")))
+                .andExpect(content().string(containsString("format=\"cbor\",phase=\"serialization\"")));
+    }
+}
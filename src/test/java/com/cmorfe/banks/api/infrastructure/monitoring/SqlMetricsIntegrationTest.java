@@ -0,0 +1,87 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import com.cmorfe.banks.api.application.services.BankService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.cmorfe.banks.api.util.TestUtils.branchCode;
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sql_metrics_test")
+@AutoConfigureMockMvc
+class SqlMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void deleteShouldRecordOneStatement() throws Exception {
+        Long id = bankService.create(createBankRequestDTO("Metrics bank", 0, 10)).getId();
+
+        mockMvc.perform(delete("/api/banks/{id}", id)).andExpect(status().isNoContent());
+
+        DistributionSummary statements = meterRegistry.get(SqlMetricsInterceptor.STATEMENTS_METRIC)
+                .tag("uri", "/api/banks/{id}")
+                .tag("method", "DELETE")
+                .summary();
+
+        assertEquals(1, statements.count());
+        assertEquals(1, statements.totalAmount());
+    }
+
+    @Test
+    void branchLookupShouldRecordFetchedRows() throws Exception {
+        bankService.create(createBankRequestDTO("Lookup bank", 100, 1));
+
+        mockMvc.perform(get("/api/branches/{code}", branchCode(100))).andExpect(status().isOk());
+
+        DistributionSummary rows = meterRegistry.get(SqlMetricsInterceptor.ROWS_METRIC)
+                .tag("uri", "/api/branches/{code}")
+                .summary();
+
+        assertEquals(1, rows.totalAmount());
+    }
+
+    @Test
+    void streamShouldRecordTheStatementsOfItsBodyOnce() throws Exception {
+        bankService.create(createBankRequestDTO("Streamed bank", 200, 3));
+
+        MvcResult result = mockMvc.perform(get("/api/banks/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get(SqlMetricsInterceptor.STATEMENTS_METRIC)
+                .tag("uri", "/api/banks/stream")
+                .summary();
+
+        assertEquals(1, statements.count());
+        assertEquals(1, statements.totalAmount());
+    }
+
+    @Test
+    void connectionPoolMetricsShouldBePublished() {
+        assertNotNull(meterRegistry.get("hikaricp.connections.acquire").tag("pool", "banksApiPool").timer());
+        assertNotNull(meterRegistry.get("hikaricp.connections.timeout").tag("pool", "banksApiPool").counter());
+    }
+}
@@ -0,0 +1,102 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SqlMetricsInterceptorTest {
+    private static final String URI = "/api/banks/{id}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(meterRegistry);
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/banks/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testRecordsTheRequestWork() {
+        HandlerMethod handler = mock(HandlerMethod.class);
+
+        interceptor.preHandle(request, response, handler);
+
+        SqlRequestMetrics.statementPrepared();
+        SqlRequestMetrics.statementPrepared();
+        SqlRequestMetrics.rowsFetched(3);
+        SqlRequestMetrics.entityLoaded();
+        SqlRequestMetrics.executionStarted();
+        SqlRequestMetrics.executionEnded();
+
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(2, summary(SqlMetricsInterceptor.STATEMENTS_METRIC).totalAmount());
+        assertEquals(3, summary(SqlMetricsInterceptor.ROWS_METRIC).totalAmount());
+        assertEquals(1, summary(SqlMetricsInterceptor.ENTITIES_LOADED_METRIC).totalAmount());
+        assertEquals(1, meterRegistry.get(SqlMetricsInterceptor.EXECUTION_METRIC).tag("uri", URI).timer().count());
+        assertNull(SqlRequestMetrics.end());
+    }
+
+    @Test
+    void testRecordsAnAsyncRequestOnceWithTheWorkOfEveryThread() throws InterruptedException {
+        HandlerMethod handler = mock(HandlerMethod.class);
+
+        interceptor.preHandle(request, response, handler);
+
+        SqlRequestMetrics.statementPrepared();
+
+        Thread executor = new Thread(SqlRequestMetrics.propagate(SqlRequestMetrics::statementPrepared));
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        executor.start();
+        executor.join();
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1, summary(SqlMetricsInterceptor.STATEMENTS_METRIC).count());
+        assertEquals(2, summary(SqlMetricsInterceptor.STATEMENTS_METRIC).totalAmount());
+    }
+
+    @Test
+    void testIgnoresWorkOutsideRequests() {
+        SqlRequestMetrics.statementPrepared();
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testIgnoresNonControllerHandlers() {
+        interceptor.preHandle(request, response, new Object());
+
+        assertNull(SqlRequestMetrics.end());
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).tag("uri", URI).tag("method", "GET").tag("status", "200").summary();
+    }
+}
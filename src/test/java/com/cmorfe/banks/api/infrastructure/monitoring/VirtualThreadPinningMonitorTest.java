@@ -0,0 +1,69 @@
+package com.cmorfe.banks.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Object lock = new Object();
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void testPinnedVirtualThreadIsRecorded() throws InterruptedException {
+        Thread.ofVirtual().start(this::sleepWhilePinned).join();
+
+        assertTrue(awaitPinnedCount() > 0);
+    }
+
+    private void sleepWhilePinned() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private long awaitPinnedCount() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            Collection<Timer> timers = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).timers();
+
+            long count = timers.stream().mapToLong(Timer::count).sum();
+
+            if (count > 0) {
+                return count;
+            }
+
+            Thread.sleep(100);
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankJsonFilterTest {
+    private static final String BANKS = """
+            [{"id":1,"name":"Bank A","type":"PUBLIC","branches":[{"id":1,"code":"0001"}]},
+             {"branches":[],"type":"PRIVATE","name":"Bank B","id":2}]""";
+
+    @Test
+    void shouldPassThroughWithoutFilters() {
+        assertTrue(BankJsonFilter.of(null, null).isPassThrough());
+        assertTrue(BankJsonFilter.of("id,name,type,branches", "").isPassThrough());
+    }
+
+    @Test
+    void shouldKeepOnlyRequestedFields() throws IOException {
+        BankJsonFilter filter = BankJsonFilter.of("id, name", null);
+
+        assertFalse(filter.isPassThrough());
+        assertEquals("[{\"id\":1,\"name\":\"Bank A\"},{\"name\":\"Bank B\",\"id\":2}]", copy(filter));
+    }
+
+    @Test
+    void shouldKeepOnlyBanksOfType() throws IOException {
+        BankJsonFilter filter = BankJsonFilter.of("name", "private");
+
+        assertEquals("[{\"name\":\"Bank B\"}]", copy(filter));
+    }
+
+    @Test
+    void shouldKeepNestedBranches() throws IOException {
+        BankJsonFilter filter = BankJsonFilter.of("branches", "PUBLIC");
+
+        assertEquals("[{\"branches\":[{\"id\":1,\"code\":\"0001\"}]}]", copy(filter));
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        assertThrows(IllegalArgumentException.class, () -> BankJsonFilter.of("id,iban", null));
+    }
+
+    @Test
+    void shouldRejectUnknownType() {
+        assertThrows(IllegalArgumentException.class, () -> BankJsonFilter.of(null, "MUTUAL"));
+    }
+
+    @Test
+    void shouldRejectBodyThatIsNotAnArray() {
+        BankJsonFilter filter = BankJsonFilter.of("id", null);
+
+        assertThrows(JsonParseException.class, () -> copy(filter, "{\"id\":1}"));
+    }
+
+    @Test
+    void shouldRejectArrayElementThatIsNotABank() {
+        BankJsonFilter filter = BankJsonFilter.of("id", null);
+
+        assertThrows(JsonParseException.class, () -> copy(filter, "[{\"id\":1},2]"));
+    }
+
+    @Test
+    void shouldRejectTruncatedArray() {
+        BankJsonFilter filter = BankJsonFilter.of("id", null);
+
+        assertThrows(JsonParseException.class, () -> copy(filter, "[{\"id\":1}"));
+    }
+
+    private static String copy(BankJsonFilter filter) throws IOException {
+        return copy(filter, BANKS);
+    }
+
+    private static String copy(BankJsonFilter filter, String json) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        filter.copy(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), output);
+
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,149 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBankRequestDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankRequestDTODeserializerTest {
+    private static final String BANK_JSON = """
+            {"name": "Bank 1", "type": "PUBLIC", "branches": [
+                {"code": "0001", "address": "Address", "phone": "11-1234-5678"},
+                {"phone": "11-1234-5678", "address": "Address", "code": "0002"}
+            ]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ObjectMapper lenientObjectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Nested
+    class ReadTests {
+        @Test
+        void shouldReadBank() throws Exception {
+            BankRequestDTO bank = objectMapper.readValue(BANK_JSON, BankRequestDTO.class);
+
+            assertEquals(new BankRequestDTO("Bank 1", BankType.PUBLIC, List.of(
+                    new BranchRequestDTO("0001", "Address", "11-1234-5678"),
+                    new BranchRequestDTO("0002", "Address", "11-1234-5678"))), bank);
+        }
+
+        @Test
+        void shouldRoundTripLargeBank() throws Exception {
+            // Spans several chunks of the object buffer
+            BankRequestDTO expected = createBankRequestDTO("Large bank", 0, 5000);
+
+            BankRequestDTO bank = objectMapper.readValue(objectMapper.writeValueAsString(expected), BankRequestDTO.class);
+
+            assertEquals(expected, bank);
+        }
+
+        @Test
+        void shouldShareRepeatedValues() throws Exception {
+            List<BranchRequestDTO> branches = objectMapper.readValue(BANK_JSON, BankRequestDTO.class).getBranches();
+
+            assertSame(branches.get(0).getAddress(), branches.get(1).getAddress());
+            assertSame(branches.get(0).getPhone(), branches.get(1).getPhone());
+        }
+
+        @Test
+        void shouldReadNulls() throws Exception {
+            BankRequestDTO bank = objectMapper.readValue("{\"name\": null, \"type\": null, \"branches\": null}",
+                    BankRequestDTO.class);
+
+            assertEquals(new BankRequestDTO(), bank);
+        }
+
+        @Test
+        void shouldReadEmptyObject() throws Exception {
+            assertEquals(new BankRequestDTO(), objectMapper.readValue("{}", BankRequestDTO.class));
+        }
+
+        @Test
+        void shouldReadScalarsAsText() throws Exception {
+            BankRequestDTO bank = objectMapper.readValue("{\"name\": 42}", BankRequestDTO.class);
+
+            assertEquals("42", bank.getName());
+        }
+
+        @Test
+        void shouldReadBanksInAList() throws Exception {
+            List<BankRequestDTO> banks = objectMapper.readValue("[" + BANK_JSON + ", " + BANK_JSON + "]",
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, BankRequestDTO.class));
+
+            assertEquals(2, banks.size());
+            assertEquals(banks.get(0), banks.get(1));
+        }
+    }
+
+    @Nested
+    class ErrorTests {
+        @Test
+        void shouldRejectInvalidTypeWithItsPath() {
+            InvalidFormatException exception = assertThrows(InvalidFormatException.class,
+                    () -> objectMapper.readValue("{\"name\": \"Bank 1\", \"type\": \"INVALID\"}", BankRequestDTO.class));
+
+            assertEquals("type", path(exception));
+            assertEquals(BankType.class, exception.getTargetType());
+        }
+
+        @Test
+        void shouldRejectNonObjectBranch() {
+            MismatchedInputException exception = assertThrows(MismatchedInputException.class,
+                    () -> objectMapper.readValue("{\"branches\": [\"0001\"]}", BankRequestDTO.class));
+
+            assertEquals("branches", exception.getPath().get(0).getFieldName());
+            assertEquals(0, exception.getPath().get(1).getIndex());
+        }
+
+        @Test
+        void shouldRejectNonArrayBranches() {
+            assertThrows(MismatchedInputException.class,
+                    () -> objectMapper.readValue("{\"branches\": {}}", BankRequestDTO.class));
+        }
+
+        @Test
+        void shouldRejectStructuredName() {
+            assertThrows(MismatchedInputException.class,
+                    () -> objectMapper.readValue("{\"name\": [\"Bank 1\"]}", BankRequestDTO.class));
+        }
+
+        @Test
+        void shouldRejectNonObjectBank() {
+            assertThrows(MismatchedInputException.class, () -> objectMapper.readValue("[]", BankRequestDTO.class));
+        }
+
+        @Test
+        void shouldRejectUnknownFieldWhenConfigured() {
+            assertThrows(UnrecognizedPropertyException.class,
+                    () -> objectMapper.readValue("{\"unknown\": 1}", BankRequestDTO.class));
+        }
+
+        @Test
+        void shouldSkipUnknownFieldOtherwise() throws Exception {
+            BankRequestDTO bank = lenientObjectMapper.readValue("{\"unknown\": {\"nested\": [1, 2]}, \"name\": \"Bank 1\"}",
+                    BankRequestDTO.class);
+
+            assertEquals("Bank 1", bank.getName());
+        }
+    }
+
+    private static String path(JsonMappingException exception) {
+        return exception.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .collect(Collectors.joining("."));
+    }
+}
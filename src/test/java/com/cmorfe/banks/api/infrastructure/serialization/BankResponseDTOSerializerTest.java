@@ -0,0 +1,61 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankResponseDTOSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Bean serialization of the same DTOs, as they were written before the serializers
+    private final ObjectMapper beanObjectMapper = new ObjectMapper()
+            .addMixIn(BankResponseDTO.class, BeanSerialized.class)
+            .addMixIn(BranchResponseDTO.class, BeanSerialized.class);
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class BeanSerialized {
+    }
+
+    @Test
+    void shouldWriteBank() throws Exception {
+        BankResponseDTO bank = new BankResponseDTO(1L, "Bank 1", BankType.PRIVATE,
+                List.of(new BranchResponseDTO(2L, "0001", "Address", "11-1234-5678")));
+
+        assertEquals("""
+                {"id":1,"name":"Bank 1","type":"PRIVATE","branches":[\
+                {"id":2,"code":"0001","address":"Address","phone":"11-1234-5678"}]}""",
+                objectMapper.writeValueAsString(bank));
+    }
+
+    @Test
+    void shouldLeaveOutNullFields() throws Exception {
+        assertEquals("{\"name\":\"Bank 1\"}", objectMapper.writeValueAsString(new BankResponseDTO(null, "Bank 1", null, null)));
+    }
+
+    @Test
+    void shouldWriteEmptyBranches() throws Exception {
+        assertEquals("{\"id\":1,\"branches\":[]}", objectMapper.writeValueAsString(new BankResponseDTO(1L, null, null, List.of())));
+    }
+
+    @Test
+    void shouldWriteTheSameBytesAsBeanSerialization() throws Exception {
+        List<BankResponseDTO> banks = List.of(
+                new BankResponseDTO(1L, "Banco \"Español\" ☃\n", BankType.PUBLIC, Arrays.asList(
+                        new BranchResponseDTO(2L, "0001", "Calle Ñandú 1", "11-1234-5678"),
+                        null,
+                        new BranchResponseDTO())),
+                new BankResponseDTO(3L, null, BankType.PRIVATE, null),
+                new BankResponseDTO());
+
+        assertArrayEquals(beanObjectMapper.writeValueAsBytes(banks), objectMapper.writeValueAsBytes(banks));
+    }
+}
@@ -1,5 +1,6 @@
 package com.cmorfe.banks.api.infrastructure.serialization;
 
+import com.cmorfe.banks.api.domain.model.BankType;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
@@ -8,6 +9,7 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +17,16 @@ class BankTypeDeserializerTest {
 
     private final BankTypeDeserializer deserializer = new BankTypeDeserializer();
 
+    @Test
+    void shouldReturnBankTypeForValidValue() throws IOException {
+        JsonParser parser = Mockito.mock(JsonParser.class);
+        DeserializationContext context = Mockito.mock(DeserializationContext.class);
+
+        when(parser.getText()).thenReturn("PRIVATE");
+
+        assertEquals(BankType.PRIVATE, deserializer.deserialize(parser, context));
+    }
+
     @Test
     void shouldThrowInvalidFormatExceptionForInvalidValue() throws IOException {
         JsonParser parser = Mockito.mock(JsonParser.class);
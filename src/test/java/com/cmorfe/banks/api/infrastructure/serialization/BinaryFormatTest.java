@@ -0,0 +1,99 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.domain.model.BankType;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+import static com.cmorfe.banks.api.util.TestUtils.createBank;
+import static com.cmorfe.banks.api.util.TestUtils.createBankResponseDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    class PreferredOverJsonTests {
+        @Test
+        void shouldPickTheOnlyAcceptedBinaryFormat() {
+            assertEquals(BinaryFormat.CBOR, BinaryFormat.preferredOverJson("application/cbor"));
+            assertEquals(BinaryFormat.SMILE, BinaryFormat.preferredOverJson("application/x-jackson-smile"));
+        }
+
+        @Test
+        void shouldPickTheHighestQuality() {
+            assertEquals(BinaryFormat.CBOR, BinaryFormat.preferredOverJson(
+                    "application/x-jackson-smile;q=0.5, application/cbor;q=0.9, application/json;q=0.8"));
+        }
+
+        @Test
+        void shouldPreferSmileOverCborOnATie() {
+            assertEquals(BinaryFormat.SMILE,
+                    BinaryFormat.preferredOverJson("application/cbor, application/x-jackson-smile"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "*/*",
+                "application/*",
+                "application/json",
+                "application/cbor, application/json",
+                "application/cbor;q=0.5, */*",
+                "application/cbor;q=0.5, application/json;q=0.5",
+                "text/html",
+                "application/cbor;q=invalid"
+        })
+        void shouldKeepJsonUnlessABinaryFormatIsRatedHigher(String accept) {
+            assertNull(BinaryFormat.preferredOverJson(accept));
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = " ")
+        void shouldKeepJsonWithoutAnAcceptHeader(String accept) {
+            assertNull(BinaryFormat.preferredOverJson(accept));
+        }
+    }
+
+    @Nested
+    class TranscodeTests {
+        @ParameterizedTest
+        @EnumSource(BinaryFormat.class)
+        void shouldDecodeToTheSameBanks(BinaryFormat format) throws IOException {
+            List<BankResponseDTO> banks = List.of(
+                    createBankResponseDTO(createBank(1L, "Bank 1", BankType.PUBLIC, Instant.now())),
+                    createBankResponseDTO(createBank(2L, "Bank 2", BankType.PRIVATE, Instant.now())));
+
+            byte[] json = objectMapper.writeValueAsBytes(banks);
+
+            byte[] binary = format.transcode(json);
+
+            ObjectMapper binaryMapper = new ObjectMapper(format.newFactory());
+
+            assertEquals(banks, binaryMapper.readValue(binary, new TypeReference<List<BankResponseDTO>>() {
+            }));
+            assertTrue(binary.length < json.length);
+        }
+
+        @Test
+        void shouldRejectMalformedJson() {
+            assertThrows(UncheckedIOException.class, () -> BinaryFormat.CBOR.transcode("[{\"id\":".getBytes()));
+        }
+    }
+
+    @Test
+    void shouldCreateAFactoryPerMapper() {
+        assertNotSame(BinaryFormat.SMILE.newFactory(), BinaryFormat.SMILE.newFactory());
+    }
+}
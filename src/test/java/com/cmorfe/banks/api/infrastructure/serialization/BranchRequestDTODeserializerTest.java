@@ -0,0 +1,64 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchPatchRequestDTO;
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BranchRequestDTODeserializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldReadBranch() throws Exception {
+        BranchRequestDTO branch = objectMapper.readValue(
+                "{\"code\": \"0001\", \"address\": \"Address\", \"phone\": \"11-1234-5678\"}", BranchRequestDTO.class);
+
+        assertEquals(new BranchRequestDTO("0001", "Address", "11-1234-5678"), branch);
+    }
+
+    @Test
+    void shouldShareRepeatedValuesAcrossTheCall() throws Exception {
+        BranchPatchRequestDTO patch = objectMapper.readValue("""
+                {"add": [{"code": "0001", "address": "Address", "phone": "Phone"}],
+                 "update": [{"code": "0002", "address": "Address", "phone": "Phone"}]}""", BranchPatchRequestDTO.class);
+
+        assertSame(patch.getAdd().getFirst().getAddress(), patch.getUpdate().getFirst().getAddress());
+    }
+
+    @Test
+    void shouldNotShareValuesBetweenCalls() throws Exception {
+        String json = "{\"address\": \"Address\"}";
+
+        List<String> addresses = List.of(
+                objectMapper.readValue(json, BranchRequestDTO.class).getAddress(),
+                objectMapper.readValue(json, BranchRequestDTO.class).getAddress());
+
+        assertNotSame(addresses.get(0), addresses.get(1));
+    }
+
+    @Test
+    void shouldReadNulls() throws Exception {
+        BranchRequestDTO branch = objectMapper.readValue("{\"code\": null, \"address\": null, \"phone\": null}",
+                BranchRequestDTO.class);
+
+        assertEquals(new BranchRequestDTO(), branch);
+    }
+
+    @Test
+    void shouldRejectStructuredValue() {
+        assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"code\": {}}", BranchRequestDTO.class));
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> objectMapper.readValue("{\"unknown\": \"value\"}", BranchRequestDTO.class));
+    }
+}
@@ -0,0 +1,23 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BranchResponseDTOSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteBranch() throws Exception {
+        assertEquals("{\"id\":1,\"code\":\"0001\",\"address\":\"Address\",\"phone\":\"11-1234-5678\"}",
+                objectMapper.writeValueAsString(new BranchResponseDTO(1L, "0001", "Address", "11-1234-5678")));
+    }
+
+    @Test
+    void shouldWriteNullFields() throws Exception {
+        assertEquals("{\"id\":null,\"code\":null,\"address\":null,\"phone\":null}",
+                objectMapper.writeValueAsString(new BranchResponseDTO()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.cmorfe.banks.api.infrastructure.serialization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringInternerTest {
+    private final StringInterner interner = new StringInterner();
+
+    @Test
+    void shouldReturnTheSameInstanceForEqualText() {
+        String first = interner.intern("xAddressx".toCharArray(), 1, 7);
+        String second = interner.intern("Address".toCharArray(), 0, 7);
+
+        assertEquals("Address", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldKeepDifferentTextApart() {
+        assertEquals("Phone 1", interner.intern("Phone 1".toCharArray(), 0, 7));
+        assertEquals("Phone 2", interner.intern("Phone 2".toCharArray(), 0, 7));
+        assertEquals("Phone", interner.intern("Phone 1".toCharArray(), 0, 5));
+    }
+
+    @Test
+    void shouldReadEmptyText() {
+        assertEquals("", interner.intern(new char[0], 0, 0));
+    }
+}
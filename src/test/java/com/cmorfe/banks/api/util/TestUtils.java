@@ -3,6 +3,8 @@ package com.cmorfe.banks.api.util;
 import com.cmorfe.banks.api.domain.model.Bank;
 import com.cmorfe.banks.api.domain.model.BankType;
 import com.cmorfe.banks.api.domain.model.Branch;
+import com.cmorfe.banks.api.domain.repository.BankSummary;
+import com.cmorfe.banks.api.domain.repository.BranchLookup;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankRequestDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BankResponseDTO;
 import com.cmorfe.banks.api.infrastructure.interfaces.dto.BranchRequestDTO;
@@ -39,6 +41,22 @@ public class TestUtils {
                 .collect(Collectors.toList()));
     }
 
+    public static BankRequestDTO createBankRequestDTO(String name, int firstBranch, int branchCount) {
+        List<BranchRequestDTO> branches = new ArrayList<>(branchCount);
+
+        for (int i = firstBranch; i < firstBranch + branchCount; i++) {
+            branches.add(new BranchRequestDTO(branchCode(i), "Address " + i, "Phone " + i));
+        }
+
+        return new BankRequestDTO(name, BankType.PUBLIC, branches);
+    }
+
+    public static String branchCode(int index) {
+        String code = Integer.toString(index, Character.MAX_RADIX).toUpperCase();
+
+        return "0".repeat(Math.max(0, 4 - code.length())) + code;
+    }
+
     public static BankResponseDTO createBankResponseDTO(Bank bank) {
         return new BankResponseDTO(bank.getId(), bank.getName(), bank.getType(), bank.getBranches().stream()
                 .map(branch -> new BranchResponseDTO(branch.getId(), branch.getCode(), branch.getAddress(), branch.getPhone()))
@@ -57,6 +75,59 @@ public class TestUtils {
         return bank;
     }
 
+    public static BankSummary createBankSummary(Bank bank) {
+        return new BankSummary() {
+            @Override
+            public Long getId() {
+                return bank.getId();
+            }
+
+            @Override
+            public String getName() {
+                return bank.getName();
+            }
+
+            @Override
+            public BankType getType() {
+                return bank.getType();
+            }
+
+            @Override
+            public Instant getUpdatedAt() {
+                return bank.getUpdatedAt();
+            }
+        };
+    }
+
+    public static BranchLookup createBranchLookup(Long id, String code, Long bankId) {
+        return new BranchLookup() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCode() {
+                return code;
+            }
+
+            @Override
+            public String getAddress() {
+                return "Address " + code;
+            }
+
+            @Override
+            public String getPhone() {
+                return "11-1234-5678";
+            }
+
+            @Override
+            public Long getBankId() {
+                return bankId;
+            }
+        };
+    }
+
     public static <T> void verifyEqualsAndHashCode(Class<T> clazz, Class<? extends T> subclass) {
         EqualsVerifier.forClass(clazz)
                 .suppress(Warning.NONFINAL_FIELDS)